@@ -0,0 +1,70 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.fitness.DDDFitness;
+import illumi.code.ddd.service.fitness.impl.ClassFitnessService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fitness of aggregate roots, which looks up the repository, factory and service of
+ * every aggregate root by its name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AggregateBenchmark {
+
+  private static final String[] SUPPORT = {"Repository", "Factory", "Service"};
+  private static final DDDType[] TYPES = {DDDType.REPOSITORY, DDDType.FACTORY, DDDType.SERVICE};
+
+  @Param({"1000", "5000"})
+  int aggregates;
+
+  private DDDStructure structure;
+  private List<Class> roots;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    structure = new DDDStructure();
+    structure.setPath(SyntheticStructure.ROOT);
+    roots = new ArrayList<>();
+    for (int i = 0; i < aggregates; i++) {
+      String name = "Order" + i;
+      String path = SyntheticStructure.ROOT + ".domain.d" + i + ".";
+      Class root = new Class(name, path + name);
+      root.setType(DDDType.AGGREGATE_ROOT);
+      structure.addClass(root);
+      roots.add(root);
+
+      for (int j = 0; j < SUPPORT.length; j++) {
+        Class support = new Class(name + SUPPORT[j], path + name + SUPPORT[j]);
+        support.setType(TYPES[j]);
+        structure.addClass(support);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<DDDFitness> evaluateAggregateRoots() {
+    List<DDDFitness> result = new ArrayList<>(roots.size());
+    for (Class root : roots) {
+      result.add(new ClassFitnessService(root, structure).evaluate());
+    }
+    return result;
+  }
+}
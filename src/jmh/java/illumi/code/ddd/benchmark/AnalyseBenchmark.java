@@ -0,0 +1,80 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.analyse.impl.AnalyseServiceImpl;
+import illumi.code.ddd.service.executor.AnalyseExecutor;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
+import illumi.code.ddd.service.monitor.QueryProfiler;
+import illumi.code.ddd.support.GraphGenerator;
+
+import io.micronaut.context.ApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.v1.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Analysis of a generated jQAssistant-like graph in the Neo4j of the application context,
+ * which is the embedded Neo4j configured by neo4j.embedded, if neo4j-harness is available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyseBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int artifacts;
+
+  private ApplicationContext context;
+  private Driver driver;
+  private String root;
+  private AnalyseServiceImpl fullService;
+  private AnalyseServiceImpl incrementalService;
+
+  /**
+   * Start the application context with its Neo4j and generate the graph.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    context = ApplicationContext.run();
+    driver = context.getBean(Driver.class);
+    GraphGenerator generator = GraphGenerator.forTypes(artifacts).dependencies(2);
+    generator.generate(driver);
+    root = generator.getRoot();
+
+    AnalyseExecutor executor = context.getBean(AnalyseExecutor.class);
+    AnalysisMetrics metrics = context.getBean(AnalysisMetrics.class);
+    QueryProfiler profiler = context.getBean(QueryProfiler.class);
+    ProgressReporter reporter = context.getBean(ProgressReporter.class);
+    fullService = new AnalyseServiceImpl(driver, 8, executor, false, 8, 60, 0.25,
+        metrics, profiler, reporter);
+    incrementalService = new AnalyseServiceImpl(driver, 8, executor, true, 8, 60, 0.25,
+        metrics, profiler, reporter);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public DDDStructure analyzeStructure() {
+    return fullService.analyzeStructure(root);
+  }
+
+  @Benchmark
+  public DDDStructure analyzeUnchangedStructure() {
+    return incrementalService.analyzeStructure(root);
+  }
+}
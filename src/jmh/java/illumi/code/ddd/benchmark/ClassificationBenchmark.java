@@ -0,0 +1,54 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Classification of classes, which are neither value objects nor entities by their fields,
+ * so every class is searched for the names of the other classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClassificationBenchmark {
+
+  @Param({"1000", "20000"})
+  int classes;
+
+  private DDDStructure structure;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    structure = new DDDStructure();
+    structure.setPath(SyntheticStructure.ROOT);
+    for (int i = 0; i < classes; i++) {
+      String name = "Type" + i + (i % 2 == 0 ? "Handler" : "");
+      Class artifact = new Class(name, SyntheticStructure.ROOT + ".d" + (i % 100) + "." + name);
+      artifact.addField(new Field("private", "repository", "de.bench.TypeRepository"));
+      structure.addClass(artifact);
+    }
+  }
+
+  @Benchmark
+  public DDDStructure setType() {
+    for (Class artifact : structure.getClasses()) {
+      artifact.setType((DDDType) null);
+      artifact.setType(structure);
+    }
+    return structure;
+  }
+}
@@ -0,0 +1,46 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.fitness.impl.FitnessServiceImpl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FitnessBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int artifacts;
+
+  private DDDStructure structure;
+  private FitnessServiceImpl service;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    structure = SyntheticStructure.create(artifacts);
+    service = new FitnessServiceImpl();
+  }
+
+  @Benchmark
+  public DDDStructure evaluateStructure() {
+    service.evaluateStructure(structure);
+    return structure;
+  }
+
+  @Benchmark
+  public JSONArray getStructureWithFitness() {
+    return service.getStructureWithFitness(structure);
+  }
+}
@@ -0,0 +1,45 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.fitness.impl.FitnessServiceImpl;
+import illumi.code.ddd.service.metric.impl.MetricServiceImpl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MetricBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  int artifacts;
+
+  private DDDStructure structure;
+  private MetricServiceImpl service;
+
+  /**
+   * Create and evaluate the structure once, the metric only reads it.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    structure = SyntheticStructure.create(artifacts);
+    new FitnessServiceImpl().evaluateStructure(structure);
+    service = new MetricServiceImpl();
+  }
+
+  @Benchmark
+  public JSONObject getMetric() {
+    return service.getMetric(structure);
+  }
+}
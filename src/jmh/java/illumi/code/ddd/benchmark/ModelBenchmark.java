@@ -0,0 +1,106 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Retained heap of the artifact model. The members are created from fresh strings,
+ * as they are read from Neo4j, so equal names, types and visibilities are only shared,
+ * if the model interns them. The baseline creates the same model in a fork,
+ * whose symbol table is disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ModelBenchmark {
+
+  private static final String[] TYPES = {
+      "java.lang.String", "java.lang.Long", "java.time.Instant", "java.util.List"
+  };
+
+  @Param({"10000", "50000"})
+  int types;
+
+  /**
+   * Heap retained by the created model.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0L;
+    }
+  }
+
+  @Benchmark
+  public DDDStructure createModel(Footprint footprint) {
+    return measure(footprint);
+  }
+
+  @Benchmark
+  @Fork(jvmArgsAppend = "-Dillumi.symbols.intern=false")
+  public DDDStructure createModelWithoutInterning(Footprint footprint) {
+    return measure(footprint);
+  }
+
+  private DDDStructure measure(Footprint footprint) {
+    long before = usedHeap();
+    DDDStructure structure = create(types);
+    structure.trimToSize();
+    footprint.retainedBytes = usedHeap() - before;
+    return structure;
+  }
+
+  private static DDDStructure create(int types) {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath(SyntheticStructure.ROOT);
+    for (int i = 0; i < types; i++) {
+      String name = "Type" + i;
+      Class artifact = new Class(name, SyntheticStructure.ROOT + ".d" + (i % 100) + "." + name);
+      for (int j = 0; j < TYPES.length; j++) {
+        String type = copy(TYPES[j]);
+        artifact.addField(new Field(copy("private"), copy("value" + j), type));
+        artifact.addMethod(new Method(copy("public"), copy("getValue" + j),
+            copy(TYPES[j] + " getValue" + j + "()")));
+      }
+      artifact.addDependencies(copy(SyntheticStructure.ROOT + ".d0.Type0"));
+      structure.addClass(artifact);
+    }
+    return structure;
+  }
+
+  private static String copy(String value) {
+    return new String(value.toCharArray());
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
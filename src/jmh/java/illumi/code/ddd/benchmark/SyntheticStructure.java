@@ -0,0 +1,141 @@
+package illumi.code.ddd.benchmark;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Method;
+import illumi.code.ddd.model.artifacts.Package;
+
+import java.util.ArrayList;
+
+/**
+ * Generates an analysed structure of a system with the given number of artifacts.
+ * Every domain consists of a module with an aggregate root, an entity, two value objects,
+ * a repository with its implementation, a factory and a domain event.
+ */
+public final class SyntheticStructure {
+
+  static final String ROOT = "de.bench";
+
+  private static final int ARTIFACTS_PER_DOMAIN = 9;
+
+  private SyntheticStructure() {
+  }
+
+  /**
+   * Create a structure.
+   *
+   * @param artifacts : approximate number of artifacts
+   * @return analysed structure
+   */
+  public static DDDStructure create(int artifacts) {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath(ROOT);
+
+    Package domain = new Package("domain", ROOT + ".domain");
+    structure.addPackage(domain);
+
+    Package infrastructure = new Package("infrastructure", ROOT + ".infrastructure");
+    structure.addPackage(infrastructure);
+
+    int domains = Math.max(1, artifacts / ARTIFACTS_PER_DOMAIN);
+    for (int i = 0; i < domains; i++) {
+      domain.addContains(createDomain(structure, infrastructure, "d" + i));
+    }
+
+    ArrayList<Artifact> modules = new ArrayList<>();
+    modules.add(domain);
+    modules.add(infrastructure);
+    structure.setStructure(modules);
+    return structure;
+  }
+
+  private static Package createDomain(DDDStructure structure, Package infrastructure,
+                                      String name) {
+    String path = ROOT + ".domain." + name;
+    Package module = new Package(name, path);
+    structure.addPackage(module);
+    structure.addDomain(name);
+
+    Class id = valueObject(structure, module, name, "Id", "java.lang.Long");
+    Class address = valueObject(structure, module, name, "Address", "java.lang.String");
+
+    Class root = entity(structure, module, name, "Root", id);
+    root.setType(DDDType.AGGREGATE_ROOT);
+    root.addField(new Field("private", "address", address.getPath()));
+    root.addDependencies(address.getPath());
+
+    Class child = entity(structure, module, name, "Child", id);
+    root.addField(new Field("private", "child", child.getPath()));
+    root.addDependencies(child.getPath());
+
+    Interface repository = new Interface("RootRepository", path + ".RootRepository");
+    repository.setDomain(name);
+    repository.addMethod(new Method("public", "findById",
+        root.getPath() + " findById(" + id.getPath() + ")"));
+    repository.addMethod(new Method("public", "save", "void save(" + root.getPath() + ")"));
+    add(structure, module, repository);
+
+    String implName = "Root" + name.toUpperCase() + "RepositoryImpl";
+    Class repositoryImpl = new Class(implName, ROOT + ".infrastructure." + implName);
+    repositoryImpl.setType(DDDType.INFRASTRUCTURE);
+    repositoryImpl.addImplInterface(repository);
+    repositoryImpl.addMethod(new Method("public", "findById",
+        root.getPath() + " findById(" + id.getPath() + ")"));
+    structure.addClass(repositoryImpl);
+    infrastructure.addContains(repositoryImpl);
+
+    Class factory = new Class("RootFactory", path + ".RootFactory");
+    factory.setDomain(name);
+    factory.addMethod(new Method("public", "create", root.getPath() + " create()"));
+    factory.addDependencies(root.getPath());
+    add(structure, module, factory);
+
+    Class event = new Class("RootCreatedEvent", path + ".RootCreatedEvent");
+    event.setType(DDDType.DOMAIN_EVENT);
+    event.setDomain(name);
+    event.addField(new Field("private", "timestamp", "java.time.Instant"));
+    event.addField(new Field("private", "root", id.getPath()));
+    event.addMethod(new Method("public", "getTimestamp", "java.time.Instant getTimestamp()"));
+    add(structure, module, event);
+
+    return module;
+  }
+
+  private static Class entity(DDDStructure structure, Package module, String domain,
+                              String name, Class id) {
+    Class entity = new Class(name, module.getPath() + "." + name);
+    entity.setType(DDDType.ENTITY);
+    entity.setDomain(domain);
+    entity.addField(new Field("private", "id", id.getPath()));
+    entity.addMethod(new Method("public", "getId", id.getPath() + " getId()"));
+    entity.addMethod(new Method("public", "equals", "boolean equals(java.lang.Object)"));
+    entity.addMethod(new Method("public", "hashCode", "int hashCode()"));
+    entity.addDependencies(id.getPath());
+    add(structure, module, entity);
+    return entity;
+  }
+
+  private static Class valueObject(DDDStructure structure, Package module, String domain,
+                                   String name, String type) {
+    Class valueObject = new Class(name, module.getPath() + "." + name);
+    valueObject.setType(DDDType.VALUE_OBJECT);
+    valueObject.setDomain(domain);
+    valueObject.addField(new Field("private", "value", type));
+    valueObject.addMethod(new Method("public", "getValue", type + " getValue()"));
+    add(structure, module, valueObject);
+    return valueObject;
+  }
+
+  private static void add(DDDStructure structure, Package module, Artifact artifact) {
+    if (artifact instanceof Class) {
+      structure.addClass((Class) artifact);
+    } else if (artifact instanceof Interface) {
+      structure.addInterface((Interface) artifact);
+    }
+    module.addContains(artifact);
+  }
+}
@@ -1,17 +1,27 @@
 package illumi.code.ddd.controller;
 
+import illumi.code.ddd.model.AnalysisProgress;
+import illumi.code.ddd.model.AnalysisSession;
 import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.DDDStructureWriter;
 import illumi.code.ddd.service.analyse.AnalyseService;
+import illumi.code.ddd.service.cache.ResultCacheService;
+import illumi.code.ddd.service.executor.AnalyseExecutor;
 import illumi.code.ddd.service.fitness.FitnessService;
 import illumi.code.ddd.service.metric.MetricService;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
 import illumi.code.ddd.service.refactor.RefactorService;
+import illumi.code.ddd.service.session.SessionService;
 
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
+import io.reactivex.Flowable;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 
@@ -26,7 +36,15 @@ import org.slf4j.LoggerFactory;
 public class DDDController {
   private static final Logger LOGGER = LoggerFactory.getLogger(DDDController.class);
 
-  private long timeStart;
+  static final String SESSION_HEADER = "X-Analysis-Session";
+
+  private static final String NO_SESSION =
+      "{\"message\":\"No project has been analyzed!\"}";
+
+  private static final String NO_PROGRESS =
+      "{\"message\":\"No analysis of the project is known!\"}";
+
+  private static final String PHASE_SERIALIZE = "serialize";
 
   @Inject
   AnalyseService analyseService;
@@ -36,76 +54,163 @@ public class DDDController {
   MetricService metricService;
   @Inject
   RefactorService refactorService;
-
-  private DDDStructure newStructure;
+  @Inject
+  SessionService sessionService;
+  @Inject
+  ResultCacheService resultCacheService;
+  @Inject
+  AnalyseExecutor analyseExecutor;
+  @Inject
+  AnalysisMetrics analysisMetrics;
+  @Inject
+  ProgressReporter progressReporter;
 
   /**
    * HTTP GET: analyse.
+   * The id of the analysis session is returned in the header X-Analysis-Session.
+   * As long as the graph is unchanged, the cached result of the path is returned.
+   * Concurrent requests of the same unchanged path share one analysis.
+   * The request thread is not blocked, the analysis and the fitness are calculated
+   * on the executor of the analysis.
+   * The structure is written as chunked JSON, without building the JSON tree.
    *
    * @param path : fully qualified name of the system module
    * @return HttpResponse as JSON
    */
   @Get("/analyse/{path}")
   @Produces(MediaType.APPLICATION_JSON)
-  public HttpResponse<String> getArtifacts(String path) {
-    startTime();
+  public CompletableFuture<HttpResponse<Flowable<byte[]>>> getArtifacts(String path) {
+    long timeStart = System.currentTimeMillis();
     LOGGER.info("HTTP GET: analyse/{}", path);
-    newStructure = new DDDStructure();
-    analyseService.setStructure(newStructure);
-    fitnessService.setStructure(newStructure);
-    analyseService.analyzeStructure(path);
-    JSONArray response = fitnessService.getStructureWithFitness();
-    stopTimestamp();
-    return HttpResponse.ok(response.toString());
+    return resultCacheService.getFingerprint(path)
+        .thenCompose(fingerprint -> resultCacheService.get(path, fingerprint,
+            () -> evaluate(path)))
+        .thenApplyAsync(structure -> {
+          AnalysisSession session = sessionService.create(path, structure);
+          stopTimestamp(timeStart);
+          return HttpResponse.ok(stream(structure))
+              .header(SESSION_HEADER, session.getId());
+        }, analyseExecutor.getHandoffExecutor());
+  }
+
+  private CompletableFuture<DDDStructure> evaluate(String path) {
+    return analyseService.analyzeStructureAsync(path)
+        .thenApplyAsync(result -> {
+          fitnessService.evaluateStructure(result);
+          return result;
+        }, analyseExecutor.getHandoffExecutor())
+        .whenComplete((result, error) -> progressReporter.finish(path));
   }
 
   /**
    * HTTP GET: metric.
    *
+   * @param id : id of the analysis session
    * @return HttpResponse as JSON
    */
-  @Get("/metric")
+  @Get("/metric/{id}")
   @Produces(MediaType.APPLICATION_JSON)
-  public HttpResponse<String> getMetrics() {
-    startTime();
-    LOGGER.info("HTTP GET: metric/");
-    if (newStructure != null) {
-      metricService.setStructure(newStructure);
-      JSONObject response = metricService.getMetric();
-      stopTimestamp();
+  public HttpResponse<String> getMetrics(String id) {
+    long timeStart = System.currentTimeMillis();
+    LOGGER.info("HTTP GET: metric/{}", id);
+    AnalysisSession session = sessionService.get(id);
+    if (session != null) {
+      JSONObject response = metricService.getMetric(session.getStructure());
+      stopTimestamp(timeStart);
       return HttpResponse.ok(response.toString());
     }
-    stopTimestamp();
-    return HttpResponse.badRequest("{\"message\":\"No project has been analyzed!\"}");
+    stopTimestamp(timeStart);
+    return HttpResponse.badRequest(NO_SESSION);
   }
 
   /**
    * HTTP GET: refactor.
+   * The refactored structure is stored as a new analysis session,
+   * whose id is returned in the header X-Analysis-Session.
    *
+   * @param id : id of the analysis session
    * @return HttpResponse as JSON
    */
-  @Get("/refactor")
+  @Get("/refactor/{id}")
   @Produces(MediaType.APPLICATION_JSON)
-  public HttpResponse<String> refactor() {
-    startTime();
-    LOGGER.info("HTTP GET: refactor/");
-    if (newStructure != null) {
-      refactorService.setOldStructure(newStructure);
-      newStructure = refactorService.refactor();
-      fitnessService.setStructure(newStructure);
-      JSONArray response = fitnessService.getStructureWithFitness();
-      stopTimestamp();
-      return HttpResponse.ok(response.toString());
+  public HttpResponse<?> refactor(String id) {
+    long timeStart = System.currentTimeMillis();
+    LOGGER.info("HTTP GET: refactor/{}", id);
+    AnalysisSession session = sessionService.get(id);
+    if (session != null) {
+      DDDStructure structure;
+      try {
+        structure = refactorService.refactor(session.getStructure());
+        fitnessService.evaluateStructure(structure);
+      } finally {
+        progressReporter.finish(session.getPath());
+      }
+      AnalysisSession refactored = sessionService.create(session.getPath(), structure);
+      stopTimestamp(timeStart);
+      return HttpResponse.ok(stream(structure))
+          .header(SESSION_HEADER, refactored.getId());
     }
-    stopTimestamp();
-    return HttpResponse.badRequest("{\"message\":\"No project has been analyzed!\"}");
+    stopTimestamp(timeStart);
+    return HttpResponse.badRequest(NO_SESSION);
+  }
+
+  /**
+   * HTTP GET: progress of a running or the latest finished analysis.
+   *
+   * @param path : fully qualified name of the system module
+   * @return HttpResponse as JSON
+   */
+  @Get("/analyse/{path}/progress")
+  @Produces(MediaType.APPLICATION_JSON)
+  public HttpResponse<String> getProgress(String path) {
+    AnalysisProgress progress = progressReporter.get(path);
+    if (progress != null) {
+      return HttpResponse.ok(progress.toJSON().toString());
+    }
+    return HttpResponse.notFound(NO_PROGRESS);
+  }
+
+  /**
+   * HTTP GET: progress of all running and recently finished analyses.
+   *
+   * @return HttpResponse as JSON
+   */
+  @Get("/progress")
+  @Produces(MediaType.APPLICATION_JSON)
+  public HttpResponse<String> getProgresses() {
+    JSONArray response = new JSONArray();
+    progressReporter.getAll().forEach(progress -> response.put(progress.toJSON()));
+    return HttpResponse.ok(response.toString());
+  }
+
+  /**
+   * HTTP GET: executor.
+   *
+   * @return HttpResponse as JSON
+   */
+  @Get("/executor")
+  @Produces(MediaType.APPLICATION_JSON)
+  public HttpResponse<String> getExecutorStatistics() {
+    LOGGER.info("HTTP GET: executor/");
+    return HttpResponse.ok(analyseExecutor.getStatistics().toString());
   }
 
-  private void startTime() {
-    timeStart = System.currentTimeMillis();
+  private Flowable<byte[]> stream(DDDStructure structure) {
+    return Flowable.using(analysisMetrics::start,
+        sample -> Flowable.generate(() -> new DDDStructureWriter(structure),
+            (writer, emitter) -> {
+              byte[] chunk = writer.next();
+              if (chunk != null) {
+                emitter.onNext(chunk);
+              } else {
+                emitter.onComplete();
+              }
+            },
+            DDDStructureWriter::close),
+        sample -> analysisMetrics.stop(sample, PHASE_SERIALIZE, structure.getRoot()));
   }
 
-  private void stopTimestamp() {
+  private void stopTimestamp(long timeStart) {
     long ms = System.currentTimeMillis() - timeStart;
     long min = TimeUnit.MILLISECONDS.toMinutes(ms);
     long sec = TimeUnit.MILLISECONDS.toSeconds(ms);
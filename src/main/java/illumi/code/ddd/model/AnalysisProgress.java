@@ -0,0 +1,136 @@
+package illumi.code.ddd.model;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.json.JSONObject;
+
+/**
+ * Progress of an analysis or refactoring of a system module.
+ * The processed artifacts are counted per kind without logging every artifact,
+ * so the progress can be updated from all threads of the analysis.
+ */
+public class AnalysisProgress {
+
+  private final String path;
+  private final long started;
+
+  private final Map<String, LongAdder> counts;
+
+  private volatile String phase;
+  private volatile long finished;
+
+  private long reported;
+
+  /**
+   * Constructor of AnalysisProgress.
+   *
+   * @param path : fully qualified name of the system module
+   */
+  public AnalysisProgress(String path) {
+    this.path = path;
+    this.started = System.currentTimeMillis();
+    this.counts = new ConcurrentHashMap<>();
+    this.phase = "started";
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public String getPhase() {
+    return phase;
+  }
+
+  public void setPhase(String phase) {
+    this.phase = phase;
+  }
+
+  public void count(String kind) {
+    counts.computeIfAbsent(kind, key -> new LongAdder()).increment();
+  }
+
+  public void count(String kind, long count) {
+    counts.computeIfAbsent(kind, key -> new LongAdder()).add(count);
+  }
+
+  /**
+   * Number of processed artifacts of a kind.
+   *
+   * @param kind : kind of the artifacts
+   * @return number of artifacts
+   */
+  public long getCount(String kind) {
+    LongAdder count = counts.get(kind);
+    return count != null ? count.sum() : 0L;
+  }
+
+  /**
+   * Number of processed artifacts of all kinds.
+   *
+   * @return number of artifacts
+   */
+  public long getTotal() {
+    long total = 0L;
+    for (LongAdder count : counts.values()) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  public boolean isFinished() {
+    return finished != 0L;
+  }
+
+  public void finish() {
+    this.finished = System.currentTimeMillis();
+  }
+
+  /**
+   * Duration of the progress until now or until it has been finished.
+   *
+   * @return duration in ms
+   */
+  public long getDuration() {
+    return (isFinished() ? finished : System.currentTimeMillis()) - started;
+  }
+
+  /**
+   * Remember the total, which has been reported.
+   *
+   * @return true, if the total has changed since the last report
+   */
+  public synchronized boolean report() {
+    long total = getTotal();
+    if (total == reported) {
+      return false;
+    }
+    reported = total;
+    return true;
+  }
+
+  /**
+   * Convert to JSON.
+   *
+   * @return JSONObject
+   */
+  public JSONObject toJSON() {
+    JSONObject processed = new JSONObject();
+    counts.forEach((kind, count) -> processed.put(kind, count.sum()));
+
+    JSONObject json = new JSONObject();
+    json.put("path", path);
+    json.put("phase", phase);
+    json.put("finished", isFinished());
+    json.put("duration", getDuration());
+    json.put("counts", processed);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return phase + " " + getDuration() + "ms " + new TreeMap<>(counts);
+  }
+}
@@ -0,0 +1,44 @@
+package illumi.code.ddd.model;
+
+/**
+ * Analysed structure of a system, which is shared by the requests of one client.
+ * The structure is a copy owned by the session, so it is never shared with the result
+ * cache, and must not be changed after the session has been created.
+ */
+public class AnalysisSession {
+
+  private final String id;
+  private final String path;
+  private final DDDStructure structure;
+  private final long created;
+
+  /**
+   * Constructor of AnalysisSession.
+   *
+   * @param id        : id of the session
+   * @param path      : fully qualified name of the system module
+   * @param structure : analysed structure of the system
+   */
+  public AnalysisSession(String id, String path, DDDStructure structure) {
+    this.id = id;
+    this.path = path;
+    this.structure = structure;
+    this.created = System.currentTimeMillis();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public DDDStructure getStructure() {
+    return structure;
+  }
+
+  public long getCreated() {
+    return created;
+  }
+}
@@ -1,10 +1,17 @@
 package illumi.code.ddd.model;
 
+import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.index.NameIndex;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 @SuppressWarnings("CheckStyle")
 public class DDDRefactorData {
@@ -20,6 +27,14 @@ public class DDDRefactorData {
 
   private ArrayList<Class> roots;
 
+  private Map<String, Package> modules;
+  private int indexedPackages;
+  private List<Class> oldClasses;
+  private Map<String, List<Class>> classPaths;
+  private Map<String, List<Integer>> classNames;
+  private NameIndex classNameIndex;
+  private Map<Artifact, String> domains;
+
   /**
    * Constructor of DDDRefactorData.
    *
@@ -30,6 +45,7 @@ public class DDDRefactorData {
     this.newStructure = new DDDStructure();
     this.newStructure.setPath(oldStructure.getPath());
     this.roots = new ArrayList<>();
+    this.domains = new IdentityHashMap<>();
   }
 
   public void setDomainModule(Package domainModule) {
@@ -50,6 +66,7 @@ public class DDDRefactorData {
 
   public void addRoots(Class root) {
     this.roots.add(root);
+    this.domains.clear();
   }
 
   public DDDStructure getOldStructure() {
@@ -79,4 +96,125 @@ public class DDDRefactorData {
   public List<Class> getRoots() {
     return roots;
   }
+
+  /**
+   * Get the first module of the new structure, whose path ends with a suffix of
+   * whole segments. The index is rebuilt after modules have been added.
+   *
+   * @param suffix : last segments of the path, e.g. 'domain.order.model'
+   * @return module or null
+   */
+  public Package getModule(String suffix) {
+    List<Package> packages = newStructure.getPackages();
+    if (modules == null || indexedPackages != packages.size()) {
+      modules = new HashMap<>();
+      for (Package module : packages) {
+        String path = module.getPath();
+        modules.putIfAbsent(path, module);
+        for (int i = path.indexOf('.'); i >= 0; i = path.indexOf('.', i + 1)) {
+          modules.putIfAbsent(path.substring(i + 1), module);
+        }
+      }
+      indexedPackages = packages.size();
+    }
+    return modules.get(suffix);
+  }
+
+  /**
+   * Get the classes of the old structure with a path, ignoring the case.
+   *
+   * @param path : fully qualified name
+   * @return classes in the order of the old structure
+   */
+  public List<Class> getClasses(String path) {
+    if (classPaths == null) {
+      classPaths = new HashMap<>();
+      for (Class item : getOldClasses()) {
+        classPaths.computeIfAbsent(item.getPath().toLowerCase(), key -> new ArrayList<>())
+            .add(item);
+      }
+    }
+    List<Class> result = classPaths.get(path.toLowerCase());
+    return result != null ? result : Collections.emptyList();
+  }
+
+  /**
+   * Get the classes of the old structure, whose lowercase name is contained in a text.
+   *
+   * @param text : lowercase text
+   * @return classes in the order of the old structure
+   */
+  public List<Class> getClassesNamedIn(String text) {
+    if (classNameIndex == null) {
+      classNames = new HashMap<>();
+      List<Class> items = getOldClasses();
+      for (int i = 0; i < items.size(); i++) {
+        classNames.computeIfAbsent(items.get(i).getLowerName(), key -> new ArrayList<>()).add(i);
+      }
+      classNameIndex = new NameIndex(classNames.keySet());
+    }
+    TreeSet<Integer> ids = new TreeSet<>();
+    classNameIndex.anyMatch(text, name -> {
+      ids.addAll(classNames.get(name));
+      return false;
+    });
+    List<Class> result = new ArrayList<>(ids.size());
+    for (int id : ids) {
+      result.add(getOldClasses().get(id));
+    }
+    return result;
+  }
+
+  private List<Class> getOldClasses() {
+    if (oldClasses == null) {
+      oldClasses = new ArrayList<>(oldStructure.getClasses());
+    }
+    return oldClasses;
+  }
+
+  /**
+   * Get the domain of an artifact, which is the lowercase name of the first aggregate root,
+   * whose name or domain the artifact refers to. The domain is computed once per artifact,
+   * so the domains of the artifacts must not change between {@link #addRoots(Class)} and
+   * {@link #reindex()}, which both forget the computed domains.
+   *
+   * @param artifact : artifact
+   * @return domain or null
+   */
+  public String getDomainOf(Artifact artifact) {
+    if (domains.containsKey(artifact)) {
+      return domains.get(artifact);
+    }
+    String domain = null;
+    for (Class root : roots) {
+      if (isRootOf(root, artifact)) {
+        domain = root.getLowerName();
+        break;
+      }
+    }
+    domains.put(artifact, domain);
+    return domain;
+  }
+
+  private static boolean isRootOf(Class root, Artifact artifact) {
+    return artifact.getLowerName().contains(root.getLowerName())
+        || artifact.getLowerName().contains(root.getDomain())
+        || artifact.getPath().contains("." + root.getDomain() + ".")
+        || (artifact.getDomain() != null
+        && artifact.getDomain().equalsIgnoreCase(root.getDomain()));
+  }
+
+  /**
+   * Rebuild the indexes of the new structure and drop the indexes of the refactoring,
+   * after the paths or domains of artifacts have changed.
+   */
+  public void reindex() {
+    newStructure.reindex();
+    modules = null;
+    oldClasses = null;
+    classPaths = null;
+    classNames = null;
+    classNameIndex = null;
+    domains.clear();
+  }
 }
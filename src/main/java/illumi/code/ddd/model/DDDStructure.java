@@ -4,12 +4,27 @@ import illumi.code.ddd.model.artifacts.Annotation;
 import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Enum;
+import illumi.code.ddd.model.artifacts.File;
 import illumi.code.ddd.model.artifacts.Interface;
 import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.index.ArtifactGraph;
+import illumi.code.ddd.model.index.ArtifactRegistry;
+import illumi.code.ddd.model.index.ArtifactVersions;
+import illumi.code.ddd.model.index.ArtifactViews;
+import illumi.code.ddd.model.index.DependencyGraph;
+import illumi.code.ddd.model.index.DependencyIndex;
+import illumi.code.ddd.model.index.NameIndex;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -18,16 +33,25 @@ import org.json.JSONObject;
 public class DDDStructure {
 
   private String path;
+  private String root;
 
   private ArrayList<Artifact> structure;
 
-  private ArrayList<String> domains;
+  private Set<String> domainIndex;
+  private List<String> domains;
 
-  private ArrayList<Package> packages;
-  private ArrayList<Class> classes;
-  private ArrayList<Interface> interfaces;
-  private ArrayList<Enum> enums;
-  private ArrayList<Annotation> annotations;
+  private ArtifactRegistry<Package> packages;
+  private ArtifactRegistry<Class> classes;
+  private ArtifactRegistry<Interface> interfaces;
+  private ArtifactRegistry<Enum> enums;
+  private ArtifactRegistry<Annotation> annotations;
+
+  private volatile NameIndex classNames;
+  private volatile ArtifactGraph graph;
+  private volatile DependencyIndex dependencies;
+  private volatile DependencyGraph packageDependencies;
+  private ArtifactVersions versions;
+  private volatile ArtifactViews views;
 
   public DDDStructure() {
     init();
@@ -38,13 +62,19 @@ public class DDDStructure {
    */
   public void init() {
     this.path = "";
+    this.root = "";
     this.structure = new ArrayList<>();
-    this.domains = new ArrayList<>();
-    this.packages = new ArrayList<>();
-    this.classes = new ArrayList<>();
-    this.interfaces = new ArrayList<>();
-    this.enums = new ArrayList<>();
-    this.annotations = new ArrayList<>();
+    this.domainIndex = ConcurrentHashMap.newKeySet();
+    this.domains = Collections.synchronizedList(new ArrayList<>());
+    this.packages = new ArtifactRegistry<>();
+    this.classes = new ArtifactRegistry<>();
+    this.interfaces = new ArtifactRegistry<>();
+    this.enums = new ArtifactRegistry<>();
+    this.annotations = new ArtifactRegistry<>();
+    this.versions = new ArtifactVersions();
+    this.classNames = null;
+    this.views = null;
+    invalidateGraph();
   }
 
   public String getPath() {
@@ -54,6 +84,16 @@ public class DDDStructure {
   public void setPath(String path) {
     String[] split = path.split("[.]");
     this.path = split[split.length - 1] + ".";
+    this.root = path;
+  }
+
+  /**
+   * Fully qualified name of the system module, as it has been passed to setPath.
+   *
+   * @return fully qualified name
+   */
+  public String getRoot() {
+    return root;
   }
 
   public List<Artifact> getStructure() {
@@ -65,7 +105,11 @@ public class DDDStructure {
   }
 
   public List<String> getDomains() {
-    return domains;
+    return Collections.unmodifiableList(domains);
+  }
+
+  public boolean containsDomain(String domain) {
+    return domain != null && domainIndex.contains(domain);
   }
 
   /**
@@ -74,21 +118,32 @@ public class DDDStructure {
    * @param domain : new domain as String
    */
   public void addDomain(String domain) {
-    if (!this.domains.contains(domain)) {
+    if (domainIndex.add(domain)) {
       this.domains.add(domain);
     }
   }
 
   public List<Package> getPackages() {
-    return packages;
+    return packages.getAll();
+  }
+
+  public Package getPackage(String path) {
+    return packages.get(path);
   }
 
   public void addPackage(Package module) {
     this.packages.add(module);
+    module.addOwner(versions);
+    this.views = null;
+    invalidateGraph();
   }
 
   public List<Class> getClasses() {
-    return classes;
+    return classes.getAll();
+  }
+
+  public Class getClass(String path) {
+    return classes.get(path);
   }
 
   /**
@@ -97,51 +152,283 @@ public class DDDStructure {
    * @param c : new class
    */
   public void addClass(Class c) {
-    if (!this.classes.contains(c)) {
-      this.classes.add(c);
+    this.classes.add(c);
+    c.addOwner(versions);
+    this.classNames = null;
+    this.views = null;
+    invalidateGraph();
+  }
+
+  /**
+   * Index of the names of all classes, which is built once and rebuilt
+   * after a class has been added or the structure has been reindexed.
+   *
+   * @return index of the class names
+   */
+  public NameIndex getClassNames() {
+    NameIndex index = classNames;
+    if (index == null) {
+      synchronized (this) {
+        index = classNames;
+        if (index == null) {
+          List<String> names = new ArrayList<>();
+          for (Class item : classes.getAll()) {
+            names.add(item.getName());
+          }
+          index = new NameIndex(names);
+          classNames = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Graph of the classes and packaged artifacts, which is built once, after the artifacts
+   * have been loaded, and rebuilt after an artifact has been added or the structure has
+   * been reindexed.
+   *
+   * @return graph of the artifacts
+   */
+  public ArtifactGraph getArtifactGraph() {
+    ArtifactGraph result = graph;
+    if (result == null) {
+      synchronized (this) {
+        result = graph;
+        if (result == null) {
+          result = new ArtifactGraph(packages.getAll(), classes.getAll());
+          graph = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Index of the reverse dependencies of all classes, which is a view of the graph
+   * of the artifacts and built once with it.
+   *
+   * @return index of the reverse dependencies
+   */
+  public DependencyIndex getDependencyIndex() {
+    DependencyIndex index = dependencies;
+    if (index == null) {
+      synchronized (this) {
+        index = dependencies;
+        if (index == null) {
+          index = new DependencyIndex(getArtifactGraph());
+          dependencies = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Dependencies of the files of all packages on the packages, which are a view of the
+   * graph of the artifacts and built once with it.
+   *
+   * @return dependency graph of the packages
+   */
+  public DependencyGraph getDependencyGraph() {
+    DependencyGraph result = packageDependencies;
+    if (result == null) {
+      synchronized (this) {
+        result = packageDependencies;
+        if (result == null) {
+          result = new DependencyGraph(getArtifactGraph());
+          packageDependencies = result;
+        }
+      }
     }
+    return result;
+  }
+
+  private void invalidateGraph() {
+    graph = null;
+    dependencies = null;
+    packageDependencies = null;
   }
 
   public List<Interface> getInterfaces() {
-    return interfaces;
+    return interfaces.getAll();
+  }
+
+  public Interface getInterface(String path) {
+    return interfaces.get(path);
   }
 
   public void addInterface(Interface i) {
     this.interfaces.add(i);
+    i.addOwner(versions);
+    this.views = null;
+    invalidateGraph();
   }
 
   public List<Enum> getEnums() {
-    return enums;
+    return enums.getAll();
+  }
+
+  public Enum getEnum(String path) {
+    return enums.get(path);
   }
 
   public void addEnum(Enum e) {
     this.enums.add(e);
+    e.addOwner(versions);
+    this.views = null;
+    invalidateGraph();
   }
 
   public List<Annotation> getAnnotations() {
-    return annotations;
+    return annotations.getAll();
+  }
+
+  public Annotation getAnnotation(String path) {
+    return annotations.get(path);
   }
 
   public void addAnnotation(Annotation a) {
     this.annotations.add(a);
+    a.addOwner(versions);
+    this.views = null;
+    invalidateGraph();
+  }
+
+  /**
+   * Rebuild the indexes of the structure, after paths of artifacts have changed.
+   */
+  public void reindex() {
+    packages.reindex();
+    classes.reindex();
+    interfaces.reindex();
+    enums.reindex();
+    annotations.reindex();
+    classNames = null;
+    views = null;
+    invalidateGraph();
+  }
+
+  /**
+   * Release the unused capacity of the lists of all artifacts, after the structure
+   * has been analysed.
+   */
+  public void trimToSize() {
+    structure.trimToSize();
+    packages.getAll().forEach(Artifact::trimToSize);
+    classes.getAll().forEach(Artifact::trimToSize);
+    interfaces.getAll().forEach(Artifact::trimToSize);
+    enums.getAll().forEach(Artifact::trimToSize);
+    annotations.getAll().forEach(Artifact::trimToSize);
+  }
+
+  /**
+   * Views of all artifacts, which are built once and rebuilt after an artifact has been
+   * added, the structure has been reindexed or a type or name of an artifact has changed.
+   */
+  private ArtifactViews getViews() {
+    ArtifactViews result = views;
+    if (result == null || !result.isCurrent()) {
+      synchronized (this) {
+        result = views;
+        if (result == null || !result.isCurrent()) {
+          result = new ArtifactViews(Arrays.asList(packages.getAll(), classes.getAll(),
+              interfaces.getAll(), enums.getAll(), annotations.getAll()), versions);
+          views = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get all artifacts of the structure in the order of their registries.
+   *
+   * @return unmodifiable list of artifacts
+   */
+  public List<Artifact> getArtifacts() {
+    return getViews().getAll();
+  }
+
+  /**
+   * Get all artifacts of a type.
+   *
+   * @param type : DDD type
+   * @return unmodifiable list of artifacts
+   */
+  public List<Artifact> getArtifacts(DDDType type) {
+    return getViews().getAll(type);
+  }
+
+  /**
+   * Whether the lowercase name of any artifact of a type contains a part.
+   *
+   * @param type : DDD type
+   * @param part : lowercase part of the name
+   * @return true, if an artifact of the type contains the part in its name
+   */
+  public boolean anyNameContains(DDDType type, String part) {
+    return getViews().anyNameContains(type, part);
+  }
+
+  /**
+   * Get the first artifact with a name.
+   *
+   * @param name : simple name of the artifact
+   * @return artifact or null
+   */
+  public Artifact getArtifactByName(String name) {
+    return getViews().get(name);
   }
 
   /**
-   * Get a list of all artifacts of the structure.
+   * Get a list of all artifacts of the structure, sorted by their fitness.
    *
    * @return list of Artifacts
    */
   public List<Artifact> getAllArtifacts() {
-    ArrayList<Artifact> all = new ArrayList<>();
+    return new ArrayList<>(getViews().getSortedByFitness());
+  }
+
+  /**
+   * Creates a deep copy of the structure. The copy can be refactored or
+   * evaluated without changing this structure.
+   *
+   * @return copy of the structure
+   */
+  public DDDStructure copy() {
+    Copier copier = new Copier();
+    DDDStructure copy = new DDDStructure();
+    copy.path = path;
+    copy.root = root;
+
+    for (String domain : new ArrayList<>(domains)) {
+      copy.addDomain(domain);
+    }
+    for (Package module : packages.getAll().toArray(new Package[0])) {
+      copy.addPackage(copier.copy(module));
+    }
+    for (Class artifact : classes.getAll().toArray(new Class[0])) {
+      copy.addClass(copier.copy(artifact));
+    }
+    for (Interface artifact : interfaces.getAll().toArray(new Interface[0])) {
+      copy.addInterface(copier.copy(artifact));
+    }
+    for (Enum artifact : enums.getAll().toArray(new Enum[0])) {
+      copy.addEnum(copier.copy(artifact));
+    }
+    for (Annotation artifact : annotations.getAll().toArray(new Annotation[0])) {
+      copy.addAnnotation(copier.copy(artifact));
+    }
 
-    all.addAll(this.packages);
-    all.addAll(this.classes);
-    all.addAll(this.interfaces);
-    all.addAll(this.enums);
-    all.addAll(this.annotations);
+    ArrayList<Artifact> copiedStructure = new ArrayList<>();
+    for (Artifact artifact : structure) {
+      copiedStructure.add(copier.copy(artifact));
+    }
+    copy.structure = copiedStructure;
 
-    all.sort(Comparator.comparingDouble(Artifact::getFitness));
-    return all;
+    copier.link();
+    return copy;
   }
 
   public JSONArray getJSON() {
@@ -160,4 +447,52 @@ public class DDDStructure {
     }
     return array;
   }
+
+  /**
+   * Copies artifacts once and replaces the references between them by their copies.
+   */
+  private static class Copier {
+    private final Map<Artifact, Artifact> copies = new IdentityHashMap<>();
+    private final Deque<Artifact> unlinked = new ArrayDeque<>();
+
+    @SuppressWarnings("unchecked")
+    <T extends Artifact> T copy(T artifact) {
+      if (artifact == null) {
+        return null;
+      }
+      Artifact copy = copies.get(artifact);
+      if (copy == null) {
+        copy = artifact.copy();
+        copies.put(artifact, copy);
+        unlinked.add(artifact);
+      }
+      return (T) copy;
+    }
+
+    void link() {
+      while (!unlinked.isEmpty()) {
+        Artifact original = unlinked.poll();
+        Artifact copy = copies.get(original);
+
+        if (original instanceof Package) {
+          for (Artifact artifact : ((Package) original).getContains()) {
+            ((Package) copy).getContains().add(copy(artifact));
+          }
+        }
+
+        if (original instanceof File) {
+          for (Annotation annotation : ((File) original).getAnnotations()) {
+            ((File) copy).addAnnotation(copy(annotation));
+          }
+          for (Interface implInterface : ((File) original).getImplInterfaces()) {
+            ((File) copy).addImplInterface(copy(implInterface));
+          }
+        }
+
+        if (original instanceof Class) {
+          ((Class) copy).setSuperClass(copy(((Class) original).getSuperClass()));
+        }
+      }
+    }
+  }
 }
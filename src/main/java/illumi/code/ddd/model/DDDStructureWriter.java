@@ -0,0 +1,99 @@
+package illumi.code.ddd.model;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Package;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Writes the same JSON as {@link DDDStructure#getJSON()} in chunks, without building
+ * the whole JSON tree. Only the current chunk and the path from the root module to the
+ * current artifact are kept in memory.
+ */
+public class DDDStructureWriter {
+
+  static final int CHUNK_SIZE = 8192;
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  private final DDDStructure structure;
+  private final int chunkSize;
+  private final ByteArrayOutputStream buffer;
+  private final JsonGenerator generator;
+  private final Deque<Iterator<Artifact>> modules;
+
+  private boolean started;
+  private boolean finished;
+
+  public DDDStructureWriter(DDDStructure structure) throws IOException {
+    this(structure, CHUNK_SIZE);
+  }
+
+  DDDStructureWriter(DDDStructure structure, int chunkSize) throws IOException {
+    this.structure = structure;
+    this.chunkSize = chunkSize;
+    this.buffer = new ByteArrayOutputStream(chunkSize + chunkSize / 4);
+    this.generator = FACTORY.createGenerator(buffer);
+    this.modules = new ArrayDeque<>();
+  }
+
+  /**
+   * Write the next artifacts, until the chunk is full or the structure is complete.
+   *
+   * @return next chunk of the JSON or null, if the structure is complete
+   * @throws IOException if the JSON could not be written
+   */
+  public byte[] next() throws IOException {
+    if (finished) {
+      return null;
+    }
+    while (buffer.size() + generator.getOutputBuffered() < chunkSize && !finished) {
+      writeNext();
+    }
+    generator.flush();
+    byte[] chunk = buffer.toByteArray();
+    buffer.reset();
+    return chunk;
+  }
+
+  private void writeNext() throws IOException {
+    if (!started) {
+      started = true;
+      generator.writeStartArray();
+      modules.push(structure.getStructure().iterator());
+      return;
+    }
+
+    Iterator<Artifact> artifacts = modules.peek();
+    if (artifacts.hasNext()) {
+      Artifact artifact = artifacts.next();
+      generator.writeStartObject();
+      artifact.writeJSON(generator);
+      if (artifact instanceof Package) {
+        generator.writeArrayFieldStart("contains");
+        modules.push(((Package) artifact).getContains().iterator());
+      } else {
+        generator.writeEndObject();
+      }
+    } else {
+      modules.pop();
+      generator.writeEndArray();
+      if (modules.isEmpty()) {
+        finished = true;
+      } else {
+        generator.writeEndObject();
+      }
+    }
+  }
+
+  public void close() throws IOException {
+    generator.close();
+  }
+}
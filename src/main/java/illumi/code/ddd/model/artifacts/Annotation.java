@@ -15,6 +15,15 @@ public class Annotation extends File {
     super(name, path, DDDType.INFRASTRUCTURE);
   }
 
+  public Annotation(Annotation artifact) {
+    super(artifact);
+  }
+
+  @Override
+  public Annotation copy() {
+    return new Annotation(this);
+  }
+
   public void evaluate() {
     setFitness(new AnnotationFitnessService(this).evaluate());
   }
@@ -2,6 +2,13 @@ package illumi.code.ddd.model.artifacts;
 
 import illumi.code.ddd.model.DDDType;
 import illumi.code.ddd.model.fitness.DDDFitness;
+import illumi.code.ddd.model.index.ArtifactVersions;
+import illumi.code.ddd.model.index.SymbolTable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.Arrays;
 
 import org.json.JSONObject;
 import org.neo4j.driver.v1.Record;
@@ -9,7 +16,10 @@ import org.neo4j.driver.v1.Record;
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public abstract class Artifact {
 
+  private static final ArtifactVersions[] NO_OWNERS = new ArtifactVersions[0];
+
   private String name;
+  private String lowerName;
   private String path;
 
 
@@ -18,6 +28,8 @@ public abstract class Artifact {
   private DDDType type;
   private DDDFitness fitness;
 
+  private volatile ArtifactVersions[] owners = NO_OWNERS;
+
   public Artifact(Record record, DDDType type) {
     this(record.get("name").asString(), record.get("path").asString(), type);
   }
@@ -29,22 +41,49 @@ public abstract class Artifact {
    * @param type : datatype of the artifact
    */
   public Artifact(String name, String path, DDDType type) {
-    this.name = name;
+    this.name = SymbolTable.of(name);
+    this.lowerName = name != null ? SymbolTable.of(name.toLowerCase()) : null;
     this.path = path;
     this.type = type;
     this.fitness = new DDDFitness();
   }
 
+  /**
+   * Copy constructor, without references to other artifacts.
+   *
+   * @param artifact : other artifact
+   */
+  protected Artifact(Artifact artifact) {
+    this.name = artifact.name;
+    this.lowerName = artifact.lowerName;
+    this.path = artifact.path;
+    this.domain = artifact.domain;
+    this.type = artifact.type;
+    this.fitness = new DDDFitness(artifact.fitness);
+  }
+
+  /**
+   * Creates a copy of the artifact. References to other artifacts, e.g. the
+   * containing artifacts of a package or the super class of a class, are not copied.
+   *
+   * @return copy of the artifact
+   */
+  public abstract Artifact copy();
+
   public String getName() {
     return this.name;
   }
 
   public String getLowerName() {
-    return this.name.toLowerCase();
+    return this.lowerName;
   }
 
   public void setName(String name) {
-    this.name = name;
+    this.name = SymbolTable.of(name);
+    this.lowerName = name != null ? SymbolTable.of(name.toLowerCase()) : null;
+    for (ArtifactVersions owner : owners) {
+      owner.changeLabels();
+    }
   }
 
   public String getPath() {
@@ -60,7 +99,7 @@ public abstract class Artifact {
   }
 
   public void setDomain(String domain) {
-    this.domain = domain;
+    this.domain = SymbolTable.of(domain);
   }
 
   public DDDType getType() {
@@ -73,10 +112,40 @@ public abstract class Artifact {
 
   public void setType(DDDType type) {
     this.type = type;
+    for (ArtifactVersions owner : owners) {
+      owner.changeLabels();
+    }
+  }
+
+  /**
+   * Release the unused capacity of the lists of the artifact, after it has been loaded.
+   */
+  public void trimToSize() {
+    // an artifact without lists has nothing to release
   }
 
   public void setFitness(DDDFitness fitness) {
     this.fitness = fitness;
+    for (ArtifactVersions owner : owners) {
+      owner.changeFitness();
+    }
+  }
+
+  /**
+   * Register the versions of a structure, which contains the artifact, so they are
+   * counted up whenever the type, the name or the fitness of the artifact changes.
+   *
+   * @param versions : versions of the structure
+   */
+  public synchronized void addOwner(ArtifactVersions versions) {
+    for (ArtifactVersions owner : owners) {
+      if (owner == versions) {
+        return;
+      }
+    }
+    ArtifactVersions[] result = Arrays.copyOf(owners, owners.length + 1);
+    result[owners.length] = versions;
+    owners = result;
   }
 
   @SuppressWarnings("CheckStyle")
@@ -100,6 +169,23 @@ public abstract class Artifact {
         .put("fitness", getFitness());
   }
 
+  /**
+   * Writes the artifact as fields of a JSON object, which are the same as of {@link #toJSON()}.
+   * @param generator : generator of the current JSON object
+   * @throws IOException if the JSON could not be written
+   */
+  @SuppressWarnings("CheckStyle")
+  public void writeJSON(JsonGenerator generator) throws IOException {
+    if (name != null) {
+      generator.writeStringField("name", name);
+    }
+    if (type != null) {
+      generator.writeStringField("DDD", type.name());
+    }
+    generator.writeFieldName("fitness");
+    generator.writeNumber(JSONObject.numberToString(getFitness()));
+  }
+
   /**
    * Generates a summary of the DDDFitness.
    * @return JSONObject
@@ -2,15 +2,17 @@ package illumi.code.ddd.model.artifacts;
 
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.index.SymbolTable;
 import illumi.code.ddd.service.analyse.impl.ClassAnalyseService;
-import illumi.code.ddd.service.analyse.impl.JavaArtifactService;
 import illumi.code.ddd.service.fitness.impl.ClassFitnessService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.json.JSONObject;
-import org.neo4j.driver.v1.Driver;
 import org.neo4j.driver.v1.Record;
 
 public class Class extends File {
@@ -20,6 +22,8 @@ public class Class extends File {
   private ArrayList<String> dependencies;
   private ArrayList<String> used;
 
+  private volatile ClassFeatures features;
+
   public Class(Record record) {
     super(record, null);
     initClass();
@@ -30,6 +34,17 @@ public class Class extends File {
     initClass();
   }
 
+  /**
+   * Copy constructor, without the super class.
+   *
+   * @param artifact : other class
+   */
+  public Class(Class artifact) {
+    super(artifact);
+    this.dependencies = new ArrayList<>(artifact.dependencies);
+    this.used = new ArrayList<>(artifact.used);
+  }
+
   private void initClass() {
     if (getName().toUpperCase().contains("FACTORY")) {
       setType(DDDType.FACTORY);
@@ -51,6 +66,49 @@ public class Class extends File {
     this.used = new ArrayList<>();
   }
 
+  @Override
+  public Class copy() {
+    return new Class(this);
+  }
+
+  /**
+   * Features of the fields and methods, which are computed once and reset, if the name,
+   * fields or methods are changed by this class. Members, which are changed in place,
+   * require a call of {@link #invalidateFeatures()}.
+   *
+   * @return features of the class
+   */
+  public ClassFeatures getFeatures() {
+    ClassFeatures current = features;
+    if (current == null) {
+      current = ClassFeatures.of(this);
+      features = current;
+    }
+    return current;
+  }
+
+  public void invalidateFeatures() {
+    this.features = null;
+  }
+
+  @Override
+  public void setName(String name) {
+    super.setName(name);
+    invalidateFeatures();
+  }
+
+  @Override
+  public void addField(Field field) {
+    super.addField(field);
+    invalidateFeatures();
+  }
+
+  @Override
+  public void addMethod(Method method) {
+    super.addMethod(method);
+    invalidateFeatures();
+  }
+
   public Class getSuperClass() {
     return superClass;
   }
@@ -59,39 +117,23 @@ public class Class extends File {
     this.superClass = superClass;
   }
 
-  public void setSuperClass(Driver driver, List<Class> classes) {
-    this.superClass = new JavaArtifactService(driver, getPath()).getSuperClass(classes);
-  }
-
   public void addSuperClass(Class superClass) {
     this.superClass = superClass;
   }
 
-  public List<String> getDependencies() {
-    return dependencies;
+  @Override
+  public void trimToSize() {
+    super.trimToSize();
+    dependencies.trimToSize();
+    used.trimToSize();
   }
 
-  /**
-   * Read and set dependencies of this class.
-   *
-   * @param driver : Neo4j-Driver
-   * @param path   : fully qualified name of the module
-   */
-  public void setDependencies(Driver driver, String path) {
-    this.dependencies = (ArrayList<String>) new JavaArtifactService(driver, getPath())
-        .getDependencies(path);
-
-    if (superClass != null) {
-      this.dependencies.remove(superClass.getPath());
-    }
-
-    for (Interface implInterface : getImplInterfaces()) {
-      this.dependencies.remove(implInterface.getPath());
-    }
+  public List<String> getDependencies() {
+    return dependencies;
   }
 
   public void addDependencies(String path) {
-    this.dependencies.add(path);
+    this.dependencies.add(SymbolTable.of(path));
   }
 
   public List<String> getUsed() {
@@ -99,7 +141,7 @@ public class Class extends File {
   }
 
   public void addUsed(String path) {
-    this.used.add(path);
+    this.used.add(SymbolTable.of(path));
   }
 
   public void setType(DDDStructure structure) {
@@ -132,4 +174,15 @@ public class Class extends File {
 
     return result;
   }
+
+  @Override
+  public void writeJSON(JsonGenerator generator) throws IOException {
+    super.writeJSON(generator);
+
+    if (superClass != null) {
+      generator.writeStringField("extends", superClass.getPath());
+    }
+
+    writeStrings(generator, "depends", dependencies);
+  }
 }
@@ -0,0 +1,207 @@
+package illumi.code.ddd.model.artifacts;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Features of the fields and methods of a class, which are used by the classification,
+ * the detection of domain events and the fitness. All features are computed by a single
+ * pass over the members of the class.
+ */
+public final class ClassFeatures {
+
+  private static final String REPOSITORY = "Repository";
+  private static final String FACTORY = "Factory";
+
+  private int fields;
+  private int standardTypeFields;
+  private final List<String> otherTypes;
+  private int firstId = -1;
+  private int firstConstant = -1;
+  private boolean idField;
+  private boolean invalidValueObjectField;
+  private boolean repositoryField;
+  private boolean timestampField;
+  private boolean identityField;
+
+  private int methods;
+  private int constructors;
+  private int equalsOrHashCode;
+  private boolean getterOrSetter;
+  private boolean unconventionalGetter;
+  private boolean mainMethod;
+  private final Set<String> methodNames;
+
+  private ClassFeatures() {
+    this.otherTypes = new ArrayList<>();
+    this.methodNames = new HashSet<>();
+  }
+
+  /**
+   * Compute the features of a class.
+   *
+   * @param artifact : class
+   * @return features
+   */
+  static ClassFeatures of(Class artifact) {
+    ClassFeatures features = new ClassFeatures();
+    features.readFields(artifact);
+    features.readMethods(artifact.getMethods(), artifact.getFields());
+    return features;
+  }
+
+  private void readFields(Class artifact) {
+    boolean idName = artifact.getLowerName().endsWith("id");
+    for (Field field : artifact.getFields()) {
+      boolean id = Field.isId(field);
+      boolean constant = StringUtils.isAllUpperCase(field.getName());
+
+      if (id) {
+        idField = true;
+        firstId = firstId < 0 ? fields : firstId;
+      }
+      if (constant) {
+        firstConstant = firstConstant < 0 ? fields : firstConstant;
+      }
+
+      if ((id && !idName) || constant || isRepositoryOrFactory(field)) {
+        invalidValueObjectField = true;
+      } else if (field.getType().startsWith("java.")) {
+        standardTypeFields++;
+      } else {
+        otherTypes.add(field.getType());
+      }
+
+      repositoryField |= field.getType().contains(REPOSITORY);
+
+      if (field.getName().contains("time")
+          || field.getName().contains("date")
+          || field.getType().contains("java.time.")) {
+        timestampField = true;
+      } else if (id && !field.getName().equalsIgnoreCase("id")) {
+        identityField = true;
+      }
+      fields++;
+    }
+  }
+
+  private static boolean isRepositoryOrFactory(Field field) {
+    String type = field.getType().substring(field.getType().lastIndexOf('.') + 1);
+
+    return type.contains(REPOSITORY)
+        || field.getName().contains(REPOSITORY.toLowerCase())
+        || type.contains(FACTORY)
+        || field.getName().contains(FACTORY.toLowerCase());
+  }
+
+  private void readMethods(List<Method> members, List<Field> fieldMembers) {
+    for (Method method : members) {
+      String name = method.getLowerName();
+      methodNames.add(name);
+
+      if (name.equals("<init>")) {
+        constructors++;
+      } else if (name.equals("equals") || name.equals("hashcode")) {
+        equalsOrHashCode++;
+      } else if (name.equals("main")) {
+        mainMethod = true;
+      }
+
+      getterOrSetter |= method.getName().startsWith("get") || method.getName().startsWith("set");
+
+      if (!unconventionalGetter) {
+        for (Field field : fieldMembers) {
+          if (method.getSignature().startsWith(field.getType())) {
+            unconventionalGetter = true;
+            break;
+          }
+        }
+      }
+      methods++;
+    }
+  }
+
+  public boolean hasFields() {
+    return fields > 0;
+  }
+
+  public boolean hasIdField() {
+    return idField;
+  }
+
+  /**
+   * Whether the class is a value object by its fields: it has fields, none of them is an id,
+   * a constant, a repository or a factory and all of them are standard types or types of the
+   * system, or the class contains the methods of a model.
+   *
+   * @param path : path of the system structure
+   * @return true, if the fields are valid fields of a value object
+   */
+  public boolean isValueObject(String path) {
+    return hasFields()
+        && !invalidValueObjectField
+        && (standardTypeFields + countTypesOf(path) == fields || containsModelMethods());
+  }
+
+  private int countTypesOf(String path) {
+    int count = 0;
+    for (String type : otherTypes) {
+      if (type.contains(path)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Whether the first field, which is either a constant or an id, is a constant.
+   *
+   * @return true, if a constant is declared before any id
+   */
+  public boolean isConstantBeforeId() {
+    return firstConstant >= 0 && (firstId < 0 || firstConstant <= firstId);
+  }
+
+  /**
+   * Whether the class contains the methods of a model: no methods or only constructors,
+   * equals or hashCode, getters or setters, or getters of the types of its fields.
+   *
+   * @return true, if the methods are methods of a model
+   */
+  public boolean containsModelMethods() {
+    return methods == constructors
+        || equalsOrHashCode > 0
+        || getterOrSetter
+        || unconventionalGetter;
+  }
+
+  public boolean hasRepositoryField() {
+    return repositoryField;
+  }
+
+  public boolean isDomainEvent() {
+    return timestampField && identityField;
+  }
+
+  public boolean hasMainMethod() {
+    return mainMethod;
+  }
+
+  public int getEqualsOrHashCodeMethods() {
+    return equalsOrHashCode;
+  }
+
+  /**
+   * Whether the class contains a method, ignoring the case of its name.
+   *
+   * @param name : name of the method
+   * @return true, if the class contains the method
+   */
+  public boolean containsMethod(String name) {
+    return methodNames.contains(name.toLowerCase());
+  }
+}
@@ -16,4 +16,13 @@ public class Enum extends File {
     super(name, path, DDDType.VALUE_OBJECT);
     setFitness(new DDDFitness());
   }
+
+  public Enum(Enum artifact) {
+    super(artifact);
+  }
+
+  @Override
+  public Enum copy() {
+    return new Enum(this);
+  }
 }
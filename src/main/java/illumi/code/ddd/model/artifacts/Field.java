@@ -3,6 +3,7 @@ package illumi.code.ddd.model.artifacts;
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.fitness.DDDFitness;
 import illumi.code.ddd.model.fitness.DDDIssueType;
+import illumi.code.ddd.model.index.SymbolTable;
 
 import java.util.List;
 
@@ -12,6 +13,7 @@ public class Field {
 
   private String visibility;
   private String name;
+  private String lowerName;
   private String type;
 
   /**
@@ -20,9 +22,8 @@ public class Field {
    * @param record : Neo4j result
    */
   public Field(Record record) {
-    this.visibility = record.get("visibility").asString();
-    this.name = record.get("name").asString();
-    this.type = record.get("type").asString().split(" ")[0];
+    this(record.get("visibility").asString(), record.get("name").asString(),
+        record.get("type").asString().split(" ")[0]);
   }
 
   /**
@@ -33,9 +34,22 @@ public class Field {
    * @param type       : datatype of the field
    */
   public Field(String visibility, String name, String type) {
-    this.visibility = visibility;
-    this.name = name;
-    this.type = type;
+    this.visibility = SymbolTable.of(visibility);
+    this.name = SymbolTable.of(name);
+    this.lowerName = name != null ? SymbolTable.of(name.toLowerCase()) : null;
+    this.type = SymbolTable.of(type);
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param field : other field
+   */
+  public Field(Field field) {
+    this.visibility = field.visibility;
+    this.name = field.name;
+    this.lowerName = field.lowerName;
+    this.type = field.type;
   }
 
   public String getVisibility() {
@@ -47,7 +61,7 @@ public class Field {
   }
 
   public String getLowerName() {
-    return name.toLowerCase();
+    return lowerName;
   }
 
   public String getType() {
@@ -55,7 +69,7 @@ public class Field {
   }
 
   public void setType(String type) {
-    this.type = type;
+    this.type = SymbolTable.of(type);
   }
 
   @SuppressWarnings("CheckStyle")
@@ -1,13 +1,14 @@
 package illumi.code.ddd.model.artifacts;
 
 import illumi.code.ddd.model.DDDType;
-import illumi.code.ddd.service.analyse.impl.JavaArtifactService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.json.JSONObject;
-import org.neo4j.driver.v1.Driver;
 import org.neo4j.driver.v1.Record;
 
 public abstract class File extends Artifact {
@@ -28,6 +29,17 @@ public abstract class File extends Artifact {
     init();
   }
 
+  File(File file) {
+    super(file);
+    init();
+    for (Field field : file.fields) {
+      this.fields.add(new Field(field));
+    }
+    for (Method method : file.methods) {
+      this.methods.add(new Method(method));
+    }
+  }
+
   private void init() {
     this.fields = new ArrayList<>();
     this.methods = new ArrayList<>();
@@ -35,12 +47,16 @@ public abstract class File extends Artifact {
     this.implInterfaces = new ArrayList<>();
   }
 
-  public List<Field> getFields() {
-    return fields;
+  @Override
+  public void trimToSize() {
+    fields.trimToSize();
+    methods.trimToSize();
+    annotations.trimToSize();
+    implInterfaces.trimToSize();
   }
 
-  public void setFields(Driver driver) {
-    this.fields = (ArrayList<Field>) new JavaArtifactService(driver, getPath()).getFields();
+  public List<Field> getFields() {
+    return fields;
   }
 
   public void addField(Field field) {
@@ -51,10 +67,6 @@ public abstract class File extends Artifact {
     return methods;
   }
 
-  public void setMethods(Driver driver) {
-    this.methods = (ArrayList<Method>) new JavaArtifactService(driver, getPath()).getMethods();
-  }
-
   public void addMethod(Method method) {
     this.methods.add(method);
   }
@@ -63,20 +75,14 @@ public abstract class File extends Artifact {
     return annotations;
   }
 
-  public void setAnnotations(Driver driver, List<Annotation> annotations) {
-    this.annotations = (ArrayList<Annotation>) new JavaArtifactService(driver, getPath())
-        .getAnnotations(annotations);
+  public void addAnnotation(Annotation annotation) {
+    this.annotations.add(annotation);
   }
 
   public List<Interface> getImplInterfaces() {
     return implInterfaces;
   }
 
-  public void setImplInterfaces(Driver driver, List<Interface> interfaces) {
-    this.implInterfaces = (ArrayList<Interface>) new JavaArtifactService(driver, getPath())
-        .getImplInterfaces(interfaces);
-  }
-
   public void addImplInterface(Interface implInterface) {
     this.implInterfaces.add(implInterface);
   }
@@ -94,14 +100,53 @@ public abstract class File extends Artifact {
     return result;
   }
 
+  @Override
+  public void writeJSON(JsonGenerator generator) throws IOException {
+    super.writeJSON(generator);
+
+    if (!fields.isEmpty()) {
+      generator.writeArrayFieldStart("fields");
+      for (Field field : fields) {
+        generator.writeString(field.getUMLSignature());
+      }
+      generator.writeEndArray();
+    }
+
+    if (!methods.isEmpty()) {
+      generator.writeArrayFieldStart("methods");
+      for (Method method : methods) {
+        generator.writeString(method.getUMLSignature());
+      }
+      generator.writeEndArray();
+    }
+
+    if (!implInterfaces.isEmpty()) {
+      generator.writeArrayFieldStart("implements");
+      for (Interface implInterface : implInterfaces) {
+        generator.writeString(implInterface.getPath());
+      }
+      generator.writeEndArray();
+    }
+  }
+
+  static void writeStrings(JsonGenerator generator, String name, List<String> values)
+      throws IOException {
+    if (!values.isEmpty()) {
+      generator.writeArrayFieldStart(name);
+      for (String value : values) {
+        generator.writeString(value);
+      }
+      generator.writeEndArray();
+    }
+  }
+
   @SuppressWarnings("CheckStyle")
   private void fieldsToJSON(JSONObject result) {
     if (!fields.isEmpty()) {
       ArrayList<String> fieldSig = new ArrayList<>();
 
       fields.stream()
-          .parallel()
-          .forEachOrdered(field -> fieldSig.add(field.getUMLSignature()));
+          .forEach(field -> fieldSig.add(field.getUMLSignature()));
 
       result.put("fields", fieldSig);
     }
@@ -114,8 +159,7 @@ public abstract class File extends Artifact {
       ArrayList<String> methodSig = new ArrayList<>();
 
       methods.stream()
-          .parallel()
-          .forEachOrdered(method -> methodSig.add(method.getUMLSignature()));
+          .forEach(method -> methodSig.add(method.getUMLSignature()));
 
       result.put("methods", methodSig);
     }
@@ -127,8 +171,7 @@ public abstract class File extends Artifact {
       ArrayList<String> impl = new ArrayList<>();
 
       implInterfaces.stream()
-          .parallel()
-          .forEachOrdered(implInterface -> impl.add(implInterface.getPath()));
+          .forEach(implInterface -> impl.add(implInterface.getPath()));
 
       result.put("implements", impl);
     }
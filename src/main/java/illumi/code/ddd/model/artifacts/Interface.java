@@ -18,6 +18,10 @@ public class Interface extends File {
     initInterface();
   }
 
+  public Interface(Interface artifact) {
+    super(artifact);
+  }
+
   private void initInterface() {
     if (getName().toUpperCase().contains("FACTORY")) {
       setType(DDDType.FACTORY);
@@ -28,6 +32,11 @@ public class Interface extends File {
     }
   }
 
+  @Override
+  public Interface copy() {
+    return new Interface(this);
+  }
+
   public void setType() {
     new InterfaceAnalyseService(this).setType();
   }
@@ -2,6 +2,7 @@ package illumi.code.ddd.model.artifacts;
 
 import illumi.code.ddd.model.fitness.DDDFitness;
 import illumi.code.ddd.model.fitness.DDDIssueType;
+import illumi.code.ddd.model.index.SymbolTable;
 
 import java.util.List;
 
@@ -11,6 +12,7 @@ public class Method {
 
   private String visibility;
   private String name;
+  private String lowerName;
   private String signature;
 
   /**
@@ -19,9 +21,8 @@ public class Method {
    * @param record : Neo4j result
    */
   public Method(Record record) {
-    this.visibility = record.get("visibility").asString();
-    this.name = record.get("name").asString();
-    this.signature = record.get("signature").asString();
+    this(record.get("visibility").asString(), record.get("name").asString(),
+        record.get("signature").asString());
   }
 
   /**
@@ -32,6 +33,7 @@ public class Method {
   public Method(Method method) {
     this.visibility = method.visibility;
     this.name = method.name;
+    this.lowerName = method.lowerName;
     this.signature = method.signature;
   }
 
@@ -43,8 +45,9 @@ public class Method {
    * @param signature  : signature of the method
    */
   public Method(String visibility, String name, String signature) {
-    this.visibility = visibility;
-    this.name = name;
+    this.visibility = SymbolTable.of(visibility);
+    this.name = SymbolTable.of(name);
+    this.lowerName = name != null ? SymbolTable.of(name.toLowerCase()) : null;
     this.signature = signature;
   }
 
@@ -53,7 +56,7 @@ public class Method {
   }
 
   public void setVisibility(String visibility) {
-    this.visibility = visibility;
+    this.visibility = SymbolTable.of(visibility);
   }
 
   public String getName() {
@@ -61,11 +64,12 @@ public class Method {
   }
 
   public String getLowerName() {
-    return name.toLowerCase();
+    return lowerName;
   }
 
   public void setName(String name) {
-    this.name = name;
+    this.name = SymbolTable.of(name);
+    this.lowerName = name != null ? SymbolTable.of(name.toLowerCase()) : null;
   }
 
   public String getSignature() {
@@ -96,13 +100,7 @@ public class Method {
    * @param fitness  : fitness of the artifact
    */
   public static void evaluateNeededMethods(Class artifact, DDDFitness fitness) {
-    int ctr = 0;
-    for (Method method : artifact.getMethods()) {
-      if (isNeededMethod(method)) {
-        ctr++;
-      }
-    }
-    if (ctr >= 2) {
+    if (artifact.getFeatures().getEqualsOrHashCodeMethods() >= 2) {
       fitness.addSuccessfulCriteria(DDDIssueType.MAJOR);
     } else if (artifact.getSuperClass() == null) {
       fitness.addFailedCriteria(DDDIssueType.MAJOR,
@@ -112,23 +110,10 @@ public class Method {
     }
   }
 
-  private static boolean isNeededMethod(Method method) {
-    // equals() or hashCode()?
-    return method.getName().equalsIgnoreCase("equals")
-        || method.getName().equalsIgnoreCase("hashCode");
-  }
-
   static void evaluateEntity(Class artifact, Field field, DDDFitness fitness) {
-    boolean containsSetter = false;
-    boolean containsGetter = false;
-    for (Method method : artifact.getMethods()) {
-      if (method.getName().equalsIgnoreCase("set" + field.getName())) {
-        containsSetter = true;
-
-      } else if (method.getName().equalsIgnoreCase("get" + field.getName())) {
-        containsGetter = true;
-      }
-    }
+    ClassFeatures features = artifact.getFeatures();
+    boolean containsSetter = features.containsMethod("set" + field.getLowerName());
+    boolean containsGetter = features.containsMethod("get" + field.getLowerName());
     fitness.addIssue(containsGetter, DDDIssueType.MINOR,
         String.format(
             "The field '%s' of the Entity '%s' has no Getter.",
@@ -29,6 +29,26 @@ public class Package extends Artifact {
     this.contains = new ArrayList<>();
   }
 
+  /**
+   * Copy constructor, without the containing artifacts.
+   *
+   * @param module : other package
+   */
+  public Package(Package module) {
+    super(module);
+    this.contains = new ArrayList<>();
+  }
+
+  @Override
+  public Package copy() {
+    return new Package(this);
+  }
+
+  @Override
+  public void trimToSize() {
+    contains.trimToSize();
+  }
+
   public List<Artifact> getContains() {
     return contains;
   }
@@ -1,6 +1,7 @@
 package illumi.code.ddd.model.fitness;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.json.JSONObject;
@@ -8,6 +9,9 @@ import org.json.JSONObject;
 @SuppressWarnings("CheckStyle")
 public class DDDFitness {
 
+  private static final Comparator<DDDIssue> BY_WEIGHT =
+      (DDDIssue i1, DDDIssue i2) -> Integer.compare(i2.getType().weight, i1.getType().weight);
+
   private int numberOfCriteria;
   private int numberOfFulfilledCriteria;
 
@@ -29,6 +33,17 @@ public class DDDFitness {
     this.issues = new ArrayList<>();
   }
 
+  /**
+   * Copy constructor.
+   *
+   * @param fitness : other DDDFitness
+   */
+  public DDDFitness(DDDFitness fitness) {
+    this.numberOfCriteria = fitness.numberOfCriteria;
+    this.numberOfFulfilledCriteria = fitness.numberOfFulfilledCriteria;
+    this.issues = new ArrayList<>(fitness.issues);
+  }
+
   public int getNumberOfCriteria() {
     return numberOfCriteria;
   }
@@ -54,7 +69,13 @@ public class DDDFitness {
 
   public void addFailedCriteria(DDDIssueType type, String description) {
     numberOfCriteria += type.weight;
-    issues.add(new DDDIssue(type, description));
+
+    DDDIssue issue = new DDDIssue(type, description);
+    int index = issues.size();
+    while (index > 0 && BY_WEIGHT.compare(issues.get(index - 1), issue) > 0) {
+      index--;
+    }
+    issues.add(index, issue);
   }
 
   /**
@@ -78,6 +99,7 @@ public class DDDFitness {
     this.numberOfCriteria += fitness.numberOfCriteria;
     this.numberOfFulfilledCriteria += fitness.numberOfFulfilledCriteria;
     this.issues.addAll(fitness.issues);
+    this.issues.sort(BY_WEIGHT);
   }
 
   /**
@@ -127,12 +149,12 @@ public class DDDFitness {
   }
 
   /**
-   * Get list of issues.
+   * Get list of issues, sorted by their weight.
+   * The issues are kept sorted when they are added, so reading them
+   * does not modify the fitness.
    * @return List of issues
    */
   public List<DDDIssue> getIssues() {
-    issues.sort((DDDIssue i1, DDDIssue i2) ->
-        Integer.compare(i2.getType().weight, i1.getType().weight));
     return issues;
   }
 
@@ -143,8 +165,7 @@ public class DDDFitness {
   public List<String> getSortedIssues() {
     ArrayList<String> result = new ArrayList<>();
     getIssues().stream()
-        .parallel()
-        .forEachOrdered(dddIssue -> result.add(dddIssue.toString()));
+        .forEach(dddIssue -> result.add(dddIssue.toString()));
 
     return result;
   }
@@ -0,0 +1,200 @@
+package illumi.code.ddd.model.index;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Package;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Graph of the artifacts of a structure, which gives every class and every artifact
+ * contained in a package a dense id. The classes are numbered by their position, followed
+ * by the other contained artifacts. The dependents and subclasses of every class are
+ * stored as offset and adjacency int arrays. The dependency index and the dependency graph
+ * of the packages are views of this graph.
+ */
+public class ArtifactGraph {
+
+  private final List<Package> packages;
+  private final List<Artifact> artifacts;
+  private final Map<Artifact, Integer> ids;
+  private final Map<String, Integer> classIds;
+  private final int classCount;
+
+  private final int[] dependentOffsets;
+  private final int[] dependents;
+  private final int[] subclassOffsets;
+  private final int[] subclasses;
+
+  /**
+   * Constructor of ArtifactGraph, which reads the dependencies and super classes.
+   *
+   * @param packages : all packages of the structure and their contained artifacts
+   * @param classes  : all classes of the structure
+   */
+  public ArtifactGraph(List<Package> packages, List<Class> classes) {
+    this.packages = Collections.unmodifiableList(new ArrayList<>(packages));
+    this.artifacts = new ArrayList<>(classes);
+    this.ids = new IdentityHashMap<>();
+    this.classIds = new HashMap<>(classes.size() * 2);
+    this.classCount = classes.size();
+    for (int i = 0; i < classCount; i++) {
+      ids.putIfAbsent(classes.get(i), i);
+      classIds.putIfAbsent(classes.get(i).getPath(), i);
+    }
+    for (Package module : this.packages) {
+      for (Artifact artifact : module.getContains()) {
+        if (!ids.containsKey(artifact)) {
+          ids.put(artifact, artifacts.size());
+          artifacts.add(artifact);
+        }
+      }
+    }
+
+    int[][] edges = readEdges();
+    this.dependentOffsets = new int[classCount + 1];
+    this.dependents = toAdjacency(edges[0], edges[1], dependentOffsets);
+    this.subclassOffsets = new int[classCount + 1];
+    this.subclasses = toAdjacency(edges[2], edges[3], subclassOffsets);
+  }
+
+  /**
+   * Read the edges dependee to dependent and super class to subclass. Duplicated
+   * dependencies of a class are read once.
+   */
+  private int[][] readEdges() {
+    int[] lastDependent = new int[classCount];
+    Arrays.fill(lastDependent, -1);
+
+    IntList dependees = new IntList();
+    IntList dependentIds = new IntList();
+    IntList superClasses = new IntList();
+    IntList subclassIds = new IntList();
+
+    for (int i = 0; i < classCount; i++) {
+      Class item = (Class) artifacts.get(i);
+      for (String dependency : item.getDependencies()) {
+        Integer dependee = classIds.get(dependency);
+        if (dependee != null && lastDependent[dependee] != i) {
+          lastDependent[dependee] = i;
+          dependees.add(dependee);
+          dependentIds.add(i);
+        }
+      }
+      int superClass = item.getSuperClass() != null ? getClassId(item.getSuperClass()) : -1;
+      if (superClass >= 0) {
+        superClasses.add(superClass);
+        subclassIds.add(i);
+      }
+    }
+    return new int[][] {
+        dependees.toArray(), dependentIds.toArray(), superClasses.toArray(), subclassIds.toArray()
+    };
+  }
+
+  /**
+   * Sort edges by their source into an adjacency array. The targets of a source keep the
+   * order of the edges.
+   *
+   * @param sources : source of every edge
+   * @param targets : target of every edge
+   * @param offsets : offsets of the sources, which are filled in
+   * @return targets of the edges ordered by their source
+   */
+  static int[] toAdjacency(int[] sources, int[] targets, int[] offsets) {
+    for (int source : sources) {
+      offsets[source + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] adjacency = new int[targets.length];
+    int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+    for (int i = 0; i < sources.length; i++) {
+      adjacency[next[sources[i]]++] = targets[i];
+    }
+    return adjacency;
+  }
+
+  public List<Package> getPackages() {
+    return packages;
+  }
+
+  public int size() {
+    return artifacts.size();
+  }
+
+  Artifact getArtifact(int id) {
+    return artifacts.get(id);
+  }
+
+  /**
+   * Id of a class or of an artifact contained in a package.
+   *
+   * @param artifact : artifact
+   * @return id or -1, if the artifact is not part of the graph
+   */
+  int getId(Artifact artifact) {
+    Integer id = ids.get(artifact);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Id of a class, which is found by its path.
+   *
+   * @param artifact : class
+   * @return id or -1, if the class is not part of the graph
+   */
+  int getClassId(Class artifact) {
+    Integer id = classIds.get(artifact.getPath());
+    return id != null && artifacts.get(id) == artifact ? id : -1;
+  }
+
+  boolean anyDependent(int id, Predicate<Class> filter) {
+    return anyMatch(id, dependentOffsets, dependents, filter);
+  }
+
+  boolean anySubclass(int id, Predicate<Class> filter) {
+    return anyMatch(id, subclassOffsets, subclasses, filter);
+  }
+
+  int countDependents(int id) {
+    return dependentOffsets[id + 1] - dependentOffsets[id];
+  }
+
+  int countSubclasses(int id) {
+    return subclassOffsets[id + 1] - subclassOffsets[id];
+  }
+
+  private boolean anyMatch(int id, int[] offsets, int[] adjacency, Predicate<Class> filter) {
+    for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+      if (filter.test((Class) artifacts.get(adjacency[i]))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static final class IntList {
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package illumi.code.ddd.model.index;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of artifacts, indexed by their fully qualified name
+ * and keeping the order of insertion.
+ *
+ * @param <T> type of the registered artifacts
+ */
+public class ArtifactRegistry<T extends Artifact> {
+
+  private final Map<String, T> index;
+  private final List<T> artifacts;
+  private final List<T> view;
+
+  /**
+   * Constructor of an empty ArtifactRegistry.
+   */
+  public ArtifactRegistry() {
+    this.index = new ConcurrentHashMap<>();
+    this.artifacts = Collections.synchronizedList(new ArrayList<>());
+    this.view = Collections.unmodifiableList(artifacts);
+  }
+
+  /**
+   * Register an artifact, unless the same artifact is already registered.
+   * The first artifact registered under a path is the one returned by get().
+   *
+   * @param artifact : new artifact
+   * @return true if the artifact has been added
+   */
+  public boolean add(T artifact) {
+    synchronized (artifacts) {
+      T registered = index.putIfAbsent(artifact.getPath(), artifact);
+      if (registered == artifact) {
+        return false;
+      }
+      artifacts.add(artifact);
+      return true;
+    }
+  }
+
+  public T get(String path) {
+    return path != null ? index.get(path) : null;
+  }
+
+  public boolean contains(String path) {
+    return path != null && index.containsKey(path);
+  }
+
+  public List<T> getAll() {
+    return view;
+  }
+
+  public int size() {
+    return artifacts.size();
+  }
+
+  /**
+   * Rebuild the index, after the paths of registered artifacts have changed.
+   * Holds the same lock as add(), so no artifact is added while the index is cleared.
+   */
+  public void reindex() {
+    synchronized (artifacts) {
+      index.clear();
+      for (T artifact : artifacts) {
+        index.putIfAbsent(artifact.getPath(), artifact);
+      }
+    }
+  }
+}
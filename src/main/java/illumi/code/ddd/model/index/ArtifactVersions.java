@@ -0,0 +1,30 @@
+package illumi.code.ddd.model.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of the artifacts of a structure, which are counted up by the artifacts, when
+ * their types or names or their fitness change. The fitness is counted apart, so the
+ * views by type and name stay valid while the fitness of the artifacts is calculated.
+ */
+public class ArtifactVersions {
+
+  private final AtomicLong labels = new AtomicLong();
+  private final AtomicLong fitness = new AtomicLong();
+
+  public long getLabels() {
+    return labels.get();
+  }
+
+  public void changeLabels() {
+    labels.incrementAndGet();
+  }
+
+  public long getFitness() {
+    return fitness.get();
+  }
+
+  public void changeFitness() {
+    fitness.incrementAndGet();
+  }
+}
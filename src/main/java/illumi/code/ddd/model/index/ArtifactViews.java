@@ -0,0 +1,158 @@
+package illumi.code.ddd.model.index;
+
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Artifact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views of all artifacts of a structure: in the order of the registries, by their type
+ * and by their name. The views are a snapshot of the artifacts, their types and names,
+ * so they are outdated, after the versions of the structure have counted a change of
+ * a type or a name. The view sorted by the fitness and the substring indexes of the names
+ * are computed on their first use; the sorted view is computed again after a change of
+ * the fitness.
+ */
+public class ArtifactViews {
+
+  private final List<Artifact> artifacts;
+  private final Map<DDDType, List<Artifact>> types;
+  private final Map<String, Artifact> names;
+  private final Map<DDDType, SubstringIndex> lowerNames;
+
+  private final ArtifactVersions versions;
+  private final long labels;
+
+  private List<Artifact> sorted;
+  private long sortedFitness;
+
+  /**
+   * Constructor of ArtifactViews, which are never outdated.
+   *
+   * @param registries : artifacts of the structure, grouped by their kind
+   */
+  public ArtifactViews(Collection<? extends List<? extends Artifact>> registries) {
+    this(registries, new ArtifactVersions());
+  }
+
+  /**
+   * Constructor of ArtifactViews.
+   *
+   * @param registries : artifacts of the structure, grouped by their kind
+   * @param versions   : versions of the structure, which are counted up by its artifacts
+   */
+  public ArtifactViews(Collection<? extends List<? extends Artifact>> registries,
+                       ArtifactVersions versions) {
+    this.versions = versions;
+    this.labels = versions.getLabels();
+
+    List<Artifact> all = new ArrayList<>();
+    for (List<? extends Artifact> registry : registries) {
+      all.addAll(registry);
+    }
+    this.artifacts = Collections.unmodifiableList(all);
+
+    this.types = new EnumMap<>(DDDType.class);
+    this.names = new HashMap<>(all.size() * 2);
+    for (Artifact artifact : all) {
+      if (artifact.getType() != null) {
+        types.computeIfAbsent(artifact.getType(), key -> new ArrayList<>()).add(artifact);
+      }
+      if (artifact.getName() != null) {
+        names.putIfAbsent(artifact.getName(), artifact);
+      }
+    }
+    types.replaceAll((type, list) -> Collections.unmodifiableList(list));
+    this.lowerNames = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Whether no type or name of an artifact has changed since the views have been built.
+   *
+   * @return true, if the views are up to date
+   */
+  public boolean isCurrent() {
+    return versions.getLabels() == labels;
+  }
+
+  public List<Artifact> getAll() {
+    return artifacts;
+  }
+
+  /**
+   * Artifacts of a type, in the order of the registries.
+   *
+   * @param type : DDD type
+   * @return artifacts of the type
+   */
+  public List<Artifact> getAll(DDDType type) {
+    List<Artifact> result = types.get(type);
+    return result != null ? result : Collections.emptyList();
+  }
+
+  /**
+   * First artifact with a name, in the order of the registries.
+   *
+   * @param name : simple name of the artifact
+   * @return artifact or null, if no artifact has the name
+   */
+  public Artifact get(String name) {
+    return name != null ? names.get(name) : null;
+  }
+
+  /**
+   * Whether the lowercase name of any artifact of a type contains a part.
+   *
+   * @param type : DDD type
+   * @param part : lowercase part of the name
+   * @return true, if an artifact of the type contains the part in its name
+   */
+  public boolean anyNameContains(DDDType type, String part) {
+    return lowerNames.computeIfAbsent(type, key -> {
+      List<String> result = new ArrayList<>();
+      for (Artifact artifact : getAll(key)) {
+        result.add(artifact.getLowerName());
+      }
+      return new SubstringIndex(result);
+    }).contains(part);
+  }
+
+  /**
+   * Artifacts sorted by their fitness in ascending order. Artifacts with the same fitness
+   * keep the order of the registries. The fitness of every artifact is calculated once
+   * per change of the fitness.
+   *
+   * @return artifacts sorted by the fitness
+   */
+  public synchronized List<Artifact> getSortedByFitness() {
+    long version = versions.getFitness();
+    List<Artifact> result = sorted;
+    if (result == null || sortedFitness != version) {
+      double[] fitness = new double[artifacts.size()];
+      Integer[] order = new Integer[artifacts.size()];
+      for (int i = 0; i < order.length; i++) {
+        fitness[i] = artifacts.get(i).getFitness();
+        order[i] = i;
+      }
+      Arrays.sort(order, Comparator.comparingDouble(i -> fitness[i]));
+
+      List<Artifact> list = new ArrayList<>(order.length);
+      for (Integer i : order) {
+        list.add(artifacts.get(i));
+      }
+      result = Collections.unmodifiableList(list);
+      sorted = result;
+      sortedFitness = version;
+    }
+    return result;
+  }
+}
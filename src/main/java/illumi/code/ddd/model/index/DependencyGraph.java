@@ -0,0 +1,230 @@
+package illumi.code.ddd.model.index;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.File;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.index.ArtifactGraph.IntList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dependencies of the files of the packages of a structure on these packages, as a view of
+ * the artifact graph. The members of a package are stored as a bitset over the artifact ids
+ * and the packages, which a file depends on, as offset and adjacency int arrays.
+ * A file depends on a package, if it extends or implements a member of the package or if
+ * one of its dependencies contains the name of the package as an inner segment.
+ */
+public class DependencyGraph {
+
+  private final ArtifactGraph graph;
+  private final List<Package> packages;
+
+  private final long[][] members;
+  private final int[] containingOffsets;
+  private final int[] containing;
+  private final int[] offsets;
+  private final int[] dependencies;
+
+  private final long[] afferentCouplings;
+  private final long[] efferentCouplings;
+
+  /**
+   * Constructor of DependencyGraph.
+   *
+   * @param packages : packages and their contained artifacts
+   */
+  public DependencyGraph(List<Package> packages) {
+    this(new ArtifactGraph(packages, Collections.emptyList()));
+  }
+
+  /**
+   * Constructor of DependencyGraph.
+   *
+   * @param graph : graph of the artifacts of the structure
+   */
+  public DependencyGraph(ArtifactGraph graph) {
+    this.graph = graph;
+    this.packages = graph.getPackages();
+
+    this.members = new long[packages.size()][(graph.size() + 63) >>> 6];
+    IntList contained = new IntList();
+    IntList modules = new IntList();
+    for (int i = 0; i < packages.size(); i++) {
+      for (Artifact artifact : packages.get(i).getContains()) {
+        int id = graph.getId(artifact);
+        if (!isMember(i, id)) {
+          members[i][id >>> 6] |= 1L << id;
+          contained.add(id);
+          modules.add(i);
+        }
+      }
+    }
+    this.containingOffsets = new int[graph.size() + 1];
+    this.containing =
+        ArtifactGraph.toAdjacency(contained.toArray(), modules.toArray(), containingOffsets);
+
+    this.offsets = new int[graph.size() + 1];
+    this.dependencies = readDependencies();
+
+    this.afferentCouplings = new long[packages.size()];
+    this.efferentCouplings = new long[packages.size()];
+    countCouplings();
+  }
+
+  public List<Package> getPackages() {
+    return packages;
+  }
+
+  private int[] readDependencies() {
+    Map<String, List<Integer>> names = new HashMap<>();
+    for (int i = 0; i < packages.size(); i++) {
+      names.computeIfAbsent(packages.get(i).getName(), key -> new ArrayList<>()).add(i);
+    }
+
+    IntList sources = new IntList();
+    IntList targets = new IntList();
+    boolean[] seen = new boolean[packages.size()];
+    int[] found = new int[packages.size()];
+    for (int id = 0; id < graph.size(); id++) {
+      if (!(graph.getArtifact(id) instanceof File)) {
+        continue;
+      }
+      int count = readDependencies((File) graph.getArtifact(id), names, seen, found);
+      Arrays.sort(found, 0, count);
+      for (int i = 0; i < count; i++) {
+        sources.add(id);
+        targets.add(found[i]);
+        seen[found[i]] = false;
+      }
+    }
+    return ArtifactGraph.toAdjacency(sources.toArray(), targets.toArray(), offsets);
+  }
+
+  private int readDependencies(File artifact, Map<String, List<Integer>> names,
+                               boolean[] seen, int[] found) {
+    int count = 0;
+    for (Interface implInterface : artifact.getImplInterfaces()) {
+      count = addContaining(implInterface, seen, found, count);
+    }
+    if (artifact instanceof Class) {
+      Class superClass = ((Class) artifact).getSuperClass();
+      if (superClass != null) {
+        count = addContaining(superClass, seen, found, count);
+      }
+      for (String dependency : ((Class) artifact).getDependencies()) {
+        count = addSegments(dependency, names, seen, found, count);
+      }
+    }
+    return count;
+  }
+
+  private int addContaining(Artifact artifact, boolean[] seen, int[] found, int count) {
+    int id = graph.getId(artifact);
+    if (id >= 0) {
+      for (int i = containingOffsets[id]; i < containingOffsets[id + 1]; i++) {
+        if (!seen[containing[i]]) {
+          seen[containing[i]] = true;
+          found[count++] = containing[i];
+        }
+      }
+    }
+    return count;
+  }
+
+  private void countCouplings() {
+    for (int module = 0; module < packages.size(); module++) {
+      for (Artifact artifact : packages.get(module).getContains()) {
+        int id = graph.getId(artifact);
+        boolean efferent = false;
+        for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+          if (dependencies[i] != module) {
+            afferentCouplings[dependencies[i]]++;
+            efferent = true;
+          }
+        }
+        if (efferent) {
+          efferentCouplings[module]++;
+        }
+      }
+    }
+  }
+
+  private static int addSegments(String dependency, Map<String, List<Integer>> names,
+                                 boolean[] seen, int[] found, int count) {
+    int start = dependency.indexOf('.');
+    while (start >= 0) {
+      int end = dependency.indexOf('.', start + 1);
+      if (end < 0) {
+        break;
+      }
+      List<Integer> modules = names.get(dependency.substring(start + 1, end));
+      if (modules != null) {
+        for (int module : modules) {
+          if (!seen[module]) {
+            seen[module] = true;
+            found[count++] = module;
+          }
+        }
+      }
+      start = end;
+    }
+    return count;
+  }
+
+  private boolean isMember(int module, int id) {
+    return (members[module][id >>> 6] & (1L << id)) != 0;
+  }
+
+  /**
+   * Whether a package contains an artifact.
+   *
+   * @param module   : index of the package
+   * @param artifact : artifact
+   * @return true, if the artifact is a member of the package
+   */
+  public boolean contains(int module, Artifact artifact) {
+    int id = graph.getId(artifact);
+    return id >= 0 && isMember(module, id);
+  }
+
+  /**
+   * Whether an artifact of the packages depends on a package.
+   *
+   * @param artifact : artifact of the packages
+   * @param module   : index of the package
+   * @return true, if the artifact depends on the package
+   */
+  public boolean dependsOn(Artifact artifact, int module) {
+    int id = graph.getId(artifact);
+    return id >= 0
+        && Arrays.binarySearch(dependencies, offsets[id], offsets[id + 1], module) >= 0;
+  }
+
+  /**
+   * Number of files of the other packages, which depend on a package. A file is counted once
+   * for every other package, which contains it.
+   *
+   * @param module : index of the package
+   * @return number of afferent couplings
+   */
+  public long countAfferentCouplings(int module) {
+    return afferentCouplings[module];
+  }
+
+  /**
+   * Number of files of a package, which depend on any other package.
+   *
+   * @param module : index of the package
+   * @return number of efferent couplings
+   */
+  public long countEfferentCouplings(int module) {
+    return efferentCouplings[module];
+  }
+}
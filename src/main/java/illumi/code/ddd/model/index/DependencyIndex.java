@@ -0,0 +1,86 @@
+package illumi.code.ddd.model.index;
+
+import illumi.code.ddd.model.artifacts.Class;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Reverse dependencies of the classes of a structure, as a view of the artifact graph,
+ * so the classes, which depend on or extend a class, are found in time of their number.
+ */
+public class DependencyIndex {
+
+  private final ArtifactGraph graph;
+
+  /**
+   * Constructor of DependencyIndex, which reads the dependencies and super classes.
+   *
+   * @param classes : all classes of the structure
+   */
+  public DependencyIndex(List<Class> classes) {
+    this(new ArtifactGraph(Collections.emptyList(), classes));
+  }
+
+  /**
+   * Constructor of DependencyIndex.
+   *
+   * @param graph : graph of the artifacts of the structure
+   */
+  public DependencyIndex(ArtifactGraph graph) {
+    this.graph = graph;
+  }
+
+  /**
+   * Pass the classes, which depend on a class, in the order of the structure.
+   *
+   * @param artifact : class
+   * @param action   : action for each dependent class
+   */
+  public void forEachDependent(Class artifact, Consumer<Class> action) {
+    anyDependent(artifact, item -> {
+      action.accept(item);
+      return false;
+    });
+  }
+
+  /**
+   * Test the classes, which depend on a class, until a class is accepted.
+   *
+   * @param artifact : class
+   * @param filter   : filter of the dependent classes
+   * @return true, if a dependent class has been accepted by the filter
+   */
+  public boolean anyDependent(Class artifact, Predicate<Class> filter) {
+    int id = graph.getClassId(artifact);
+    return id >= 0 && graph.anyDependent(id, filter);
+  }
+
+  /**
+   * Test the classes, which extend a class, until a class is accepted.
+   *
+   * @param artifact : class
+   * @param filter   : filter of the subclasses
+   * @return true, if a subclass has been accepted by the filter
+   */
+  public boolean anySubclass(Class artifact, Predicate<Class> filter) {
+    int id = graph.getClassId(artifact);
+    return id >= 0 && graph.anySubclass(id, filter);
+  }
+
+  public boolean contains(Class artifact) {
+    return graph.getClassId(artifact) >= 0;
+  }
+
+  public int countDependents(Class artifact) {
+    int id = graph.getClassId(artifact);
+    return id >= 0 ? graph.countDependents(id) : 0;
+  }
+
+  public int countSubclasses(Class artifact) {
+    int id = graph.getClassId(artifact);
+    return id >= 0 ? graph.countSubclasses(id) : 0;
+  }
+}
@@ -0,0 +1,144 @@
+package illumi.code.ddd.model.index;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Aho-Corasick automaton over a set of names, which finds all names contained in a text
+ * in time linear in the length of the text and the number of matches.
+ */
+public class NameIndex {
+
+  private final Node root;
+  private final Map<String, Integer> counts;
+
+  /**
+   * Constructor of NameIndex.
+   *
+   * @param names : names to index, which may contain duplicates
+   */
+  public NameIndex(Collection<String> names) {
+    this.root = new Node();
+    this.counts = new HashMap<>();
+    for (String name : names) {
+      if (name != null && counts.merge(name, 1, Integer::sum) == 1) {
+        insert(name);
+      }
+    }
+    link();
+  }
+
+  private void insert(String name) {
+    Node node = root;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.getOrCreate(name.charAt(i));
+    }
+    node.name = name;
+  }
+
+  private void link() {
+    Deque<Node> queue = new ArrayDeque<>();
+    for (int i = 0; i < root.size; i++) {
+      root.next[i].fail = root;
+      queue.add(root.next[i]);
+    }
+    while (!queue.isEmpty()) {
+      Node node = queue.poll();
+      for (int i = 0; i < node.size; i++) {
+        char key = node.keys[i];
+        Node child = node.next[i];
+
+        Node fail = node.fail;
+        while (fail != root && fail.get(key) == null) {
+          fail = fail.fail;
+        }
+        Node target = fail.get(key);
+        child.fail = target != null ? target : root;
+        child.output = child.fail.name != null ? child.fail : child.fail.output;
+        queue.add(child);
+      }
+    }
+  }
+
+  /**
+   * Number of times a name has been indexed.
+   *
+   * @param name : name
+   * @return number of occurrences
+   */
+  public int count(String name) {
+    Integer count = counts.get(name);
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Test the indexed names contained in a text, until a name is accepted.
+   *
+   * @param text   : text to search
+   * @param filter : filter of the contained names
+   * @return true, if a contained name has been accepted by the filter
+   */
+  public boolean anyMatch(String text, Predicate<String> filter) {
+    if (root.name != null && filter.test(root.name)) {
+      return true;
+    }
+    Node state = root;
+    for (int i = 0; i < text.length(); i++) {
+      char key = text.charAt(i);
+      Node next = state.get(key);
+      while (next == null && state != root) {
+        state = state.fail;
+        next = state.get(key);
+      }
+      state = next != null ? next : root;
+
+      for (Node match = state.name != null ? state : state.output; match != null;
+           match = match.output) {
+        if (filter.test(match.name)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static final class Node {
+    private char[] keys = new char[0];
+    private Node[] next = new Node[0];
+    private int size;
+
+    private Node fail;
+    private Node output;
+    private String name;
+
+    private Node get(char key) {
+      int index = Arrays.binarySearch(keys, 0, size, key);
+      return index >= 0 ? next[index] : null;
+    }
+
+    private Node getOrCreate(char key) {
+      int index = Arrays.binarySearch(keys, 0, size, key);
+      if (index >= 0) {
+        return next[index];
+      }
+      int insert = -index - 1;
+      if (size == keys.length) {
+        int capacity = Math.max(2, size * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        next = Arrays.copyOf(next, capacity);
+      }
+      System.arraycopy(keys, insert, keys, insert + 1, size - insert);
+      System.arraycopy(next, insert, next, insert + 1, size - insert);
+      Node child = new Node();
+      keys[insert] = key;
+      next[insert] = child;
+      size++;
+      return child;
+    }
+  }
+}
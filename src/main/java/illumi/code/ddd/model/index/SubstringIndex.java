@@ -0,0 +1,92 @@
+package illumi.code.ddd.model.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Sorted suffixes of a set of texts, which tells whether any text contains a pattern
+ * by a binary search in time logarithmic in the number of suffixes.
+ */
+public class SubstringIndex {
+
+  private final String[] texts;
+  private final long[] suffixes;
+
+  /**
+   * Constructor of SubstringIndex.
+   *
+   * @param texts : texts to index
+   */
+  public SubstringIndex(Collection<String> texts) {
+    this.texts = texts.stream().filter(text -> text != null).toArray(String[]::new);
+
+    int count = 0;
+    for (String text : this.texts) {
+      count += text.length();
+    }
+    Long[] order = new Long[count];
+    int next = 0;
+    for (int i = 0; i < this.texts.length; i++) {
+      for (int offset = 0; offset < this.texts[i].length(); offset++) {
+        order[next++] = ((long) i << 32) | offset;
+      }
+    }
+    Arrays.sort(order, this::compareSuffixes);
+
+    this.suffixes = new long[count];
+    for (int i = 0; i < count; i++) {
+      suffixes[i] = order[i];
+    }
+  }
+
+  private String getText(long suffix) {
+    return texts[(int) (suffix >>> 32)];
+  }
+
+  private int compareSuffixes(long first, long second) {
+    String text = getText(second);
+    int offset = (int) second;
+    return compare(first, text, offset, text.length() - offset);
+  }
+
+  /**
+   * Whether any indexed text contains a pattern.
+   *
+   * @param pattern : pattern
+   * @return true, if the pattern is a substring of an indexed text
+   */
+  public boolean contains(String pattern) {
+    if (pattern.isEmpty()) {
+      return texts.length > 0;
+    }
+    int low = 0;
+    int high = suffixes.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compare(suffixes[middle], pattern, 0, pattern.length()) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low < suffixes.length
+        && getText(suffixes[low]).startsWith(pattern, (int) suffixes[low]);
+  }
+
+  private int compare(long suffix, String other, int from, int otherLength) {
+    String text = getText(suffix);
+    int offset = (int) suffix;
+    int length = Math.min(text.length() - offset, otherLength);
+    for (int i = 0; i < length; i++) {
+      int difference = text.charAt(offset + i) - other.charAt(from + i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return (text.length() - offset) - otherLength;
+  }
+
+  public int size() {
+    return suffixes.length;
+  }
+}
@@ -0,0 +1,153 @@
+package illumi.code.ddd.model.index;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Table of the canonical instances of the names, field types, dependencies, domains and
+ * visibilities of the artifacts. Equal strings read for thousands of members share
+ * one instance, which is released, as soon as no artifact references it anymore.
+ * The paths of the artifacts and the signatures of the methods are not interned, as they
+ * are unique and a symbol would only add a weak reference and a map node.
+ * The table is a concurrent map of weak references, so artifacts can be created by
+ * many threads without a shared lock. The shared table can be disabled by the system
+ * property illumi.symbols.intern=false, e.g. to measure the heap of the model without it.
+ */
+public class SymbolTable {
+
+  private static final String PROPERTY_INTERN = "illumi.symbols.intern";
+
+  private static final SymbolTable DEFAULT =
+      new SymbolTable(Boolean.parseBoolean(System.getProperty(PROPERTY_INTERN, "true")));
+
+  private final ConcurrentMap<Object, Symbol> symbols;
+  private final ReferenceQueue<String> released;
+  private final boolean enabled;
+
+  /**
+   * Constructor of an empty SymbolTable.
+   */
+  public SymbolTable() {
+    this(true);
+  }
+
+  /**
+   * Constructor of an empty SymbolTable.
+   *
+   * @param enabled : false, if every string is its own canonical instance
+   */
+  public SymbolTable(boolean enabled) {
+    this.symbols = new ConcurrentHashMap<>();
+    this.released = new ReferenceQueue<>();
+    this.enabled = enabled;
+  }
+
+  /**
+   * Table, which is shared by all artifacts.
+   *
+   * @return shared table
+   */
+  public static SymbolTable getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Canonical instance of a string of the shared table.
+   *
+   * @param value : string or null
+   * @return canonical instance, which is equal to the value
+   */
+  public static String of(String value) {
+    return DEFAULT.intern(value);
+  }
+
+  /**
+   * Canonical instance of a string.
+   *
+   * @param value : string or null
+   * @return canonical instance, which is equal to the value
+   */
+  public String intern(String value) {
+    if (value == null || !enabled) {
+      return value;
+    }
+    expunge();
+    Symbol symbol = symbols.get(new Lookup(value));
+    String canonical = symbol != null ? symbol.get() : null;
+    while (canonical == null) {
+      Symbol created = new Symbol(value, released);
+      symbol = symbols.putIfAbsent(created, created);
+      if (symbol == null) {
+        return value;
+      }
+      canonical = symbol.get();
+      if (canonical == null) {
+        symbols.remove(symbol, symbol);
+      }
+    }
+    return canonical;
+  }
+
+  public int size() {
+    expunge();
+    return symbols.size();
+  }
+
+  private void expunge() {
+    Reference<? extends String> reference;
+    while ((reference = released.poll()) != null) {
+      symbols.remove(reference, reference);
+    }
+  }
+
+  /**
+   * Weak reference to a canonical instance, which is equal to any reference
+   * or lookup of an equal string, as long as the instance has not been released.
+   */
+  private static final class Symbol extends WeakReference<String> {
+    private final int hash;
+
+    Symbol(String value, ReferenceQueue<String> queue) {
+      super(value, queue);
+      this.hash = value.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      String value = get();
+      return other instanceof Symbol && value != null && value.equals(((Symbol) other).get());
+    }
+  }
+
+  /**
+   * Key to look up the symbol of a string, without creating a weak reference.
+   */
+  private static final class Lookup {
+    private final String value;
+
+    Lookup(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Symbol && value.equals(((Symbol) other).get());
+    }
+  }
+}
@@ -1,11 +1,12 @@
 package illumi.code.ddd.service.analyse;
 
 import illumi.code.ddd.model.DDDStructure;
-import org.json.JSONArray;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface AnalyseService {
 
-  void setStructure(DDDStructure structure);
+  DDDStructure analyzeStructure(String path);
 
-  JSONArray analyzeStructure(String path);
+  CompletableFuture<DDDStructure> analyzeStructureAsync(String path);
 }
@@ -1,24 +1,35 @@
 package illumi.code.ddd.service.analyse.impl;
 
+import illumi.code.ddd.model.AnalysisProgress;
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
 import illumi.code.ddd.model.artifacts.Annotation;
 import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Enum;
+import illumi.code.ddd.model.artifacts.File;
 import illumi.code.ddd.model.artifacts.Interface;
 import illumi.code.ddd.model.artifacts.Package;
 import illumi.code.ddd.service.analyse.AnalyseService;
+import illumi.code.ddd.service.cache.ExpiringCache;
+import illumi.code.ddd.service.executor.AnalyseExecutor;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
+import illumi.code.ddd.service.monitor.QueryProfiler;
+
+import io.micronaut.context.annotation.Value;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 
-import org.json.JSONArray;
 import org.neo4j.driver.v1.Driver;
-import org.neo4j.driver.v1.Session;
-import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,201 +37,295 @@ import org.slf4j.LoggerFactory;
 
 public class AnalyseServiceImpl implements AnalyseService {
 
-  private static final String QUERY_ARTIFACT =
-      "MATCH (root:Package)-[:CONTAINS]->(artifact) "
+  private static final String QUERY_ARTIFACTS =
+      "MATCH (root:Package)-[:CONTAINS*0..]->(parent:Package)-[:CONTAINS]->(artifact) "
           + "WHERE root.fqn={path} "
           + "AND (artifact:Package "
           + "OR artifact:Class "
           + "OR artifact:Interface "
           + "OR artifact:Enum "
           + "OR artifact:Annotation) "
-          + "RETURN DISTINCT artifact.name as name, "
+          + "RETURN DISTINCT parent.fqn as parent, "
+          + "artifact.name as name, "
           + "artifact.fqn as path, "
           + "labels(artifact) as types";
 
+  static final int DEFAULT_QUERIES_IN_FLIGHT = 8;
+  static final int DEFAULT_MAX_SNAPSHOTS = 8;
+  static final long DEFAULT_SNAPSHOT_TTL_MINUTES = 60L;
+  static final double DEFAULT_MAX_CHANGED_RATIO = 0.25;
+
+  private static final String PHASE_ANALYSE = "analyse";
+  private static final String PHASE_DISCOVERY = "analyse.discovery";
+  private static final String PHASE_CHECKSUMS = "analyse.checksums";
+  private static final String PHASE_LOADING = "analyse.loading";
+  private static final String PHASE_CLASSIFICATION = "analyse.classification";
+  private static final String PHASE_DOMAINS = "analyse.domains";
+  private static final String PHASE_INFRASTRUCTURE = "analyse.infrastructure";
+  private static final String PHASE_EVENTS = "analyse.events";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(AnalyseServiceImpl.class);
 
-  private Driver driver;
+  private AsyncQueryService queries;
 
-  private DDDStructure structure;
+  private AnalyseExecutor executor;
 
-  public @Inject AnalyseServiceImpl(Driver driver) {
-    this.driver = driver;
-    this.structure = new DDDStructure();
-  }
+  private AnalysisMetrics metrics;
 
-  @Override
-  public void setStructure(DDDStructure structure) {
-    this.structure = structure;
-  }
+  private ProgressReporter reporter;
 
-  @Override
-  public JSONArray analyzeStructure(String path) {
-    structure.setPath(path);
-    structure.setStructure(getArtifacts(path));
-    analyzeClasses();
-    analyzeInterfaces();
-    analyzeEnums();
-    analyzeAnnotations();
+  private ArtifactChecksumService checksumService;
 
-    setupDomains();
-    analyseDomains();
+  private ExpiringCache<String, AnalysisSnapshot> snapshots;
 
-    findInfrastructure();
+  private double maxChangedRatio;
 
-    findEvents();
-    return structure.getJSON();
+  public AnalyseServiceImpl(Driver driver) {
+    this(driver, DEFAULT_QUERIES_IN_FLIGHT, AnalyseExecutor.getDefault(), true,
+        DEFAULT_MAX_SNAPSHOTS, DEFAULT_SNAPSHOT_TTL_MINUTES, DEFAULT_MAX_CHANGED_RATIO,
+        AnalysisMetrics.getDefault(), QueryProfiler.getDefault(), ProgressReporter.getDefault());
   }
 
-  private ArrayList<Artifact> getArtifacts(String path) {
-    try (Session session = driver.session()) {
-      LOGGER.info("[READ] Artifacts of {}", path);
-      StatementResult result = session.run(QUERY_ARTIFACT, Values.parameters("path", path));
-      return convertResultToArtifacts(result);
-    } catch (Exception e) {
-      LOGGER.error(e.getMessage(), e);
+  /**
+   * Constructor of AnalyseServiceImpl.
+   *
+   * @param driver          : Neo4j-Driver
+   * @param queriesInFlight : maximal number of queries running at the same time
+   * @param executor        : executor of the analysis phases
+   * @param incremental     : read only the artifacts, which have been changed since
+   *                          the last analysis of the same system module
+   * @param maxSnapshots    : maximal number of system modules, whose last analysis is kept
+   * @param snapshotTtl     : minutes until the last analysis of a system module expires
+   * @param maxChangedRatio : maximal ratio of changed artifacts, which are read incrementally
+   * @param metrics         : timers of the phases and counters of the queries and artifacts
+   * @param profiler        : profiler of the query executions
+   * @param reporter        : reporter of the progress
+   */
+  @Inject
+  public AnalyseServiceImpl(Driver driver,
+                            @Value("${analyse.queries-in-flight:8}") int queriesInFlight,
+                            AnalyseExecutor executor,
+                            @Value("${analyse.incremental:true}") boolean incremental,
+                            @Value("${analyse.snapshots.max-size:8}") int maxSnapshots,
+                            @Value("${analyse.snapshots.ttl-minutes:60}") long snapshotTtl,
+                            @Value("${analyse.snapshots.max-changed-ratio:0.25}")
+                                double maxChangedRatio,
+                            AnalysisMetrics metrics,
+                            QueryProfiler profiler,
+                            ProgressReporter reporter) {
+    this.queries = new AsyncQueryService(driver, queriesInFlight, metrics, profiler,
+        executor.getHandoffExecutor());
+    this.executor = executor;
+    this.metrics = metrics;
+    this.reporter = reporter;
+    this.maxChangedRatio = maxChangedRatio;
+    if (incremental) {
+      this.checksumService = new ArtifactChecksumService(queries);
+      this.snapshots = new ExpiringCache<>(maxSnapshots, snapshotTtl, TimeUnit.MINUTES);
     }
-    return new ArrayList<>();
   }
 
-  private ArrayList<Artifact> convertResultToArtifacts(StatementResult result) {
-    ArrayList<Artifact> artifacts = new ArrayList<>();
-    result.stream()
-        .parallel()
-        .forEach(item -> {
-          List<Object> types = item.get("types").asList();
-          Artifact artifact;
-
-          if (types.contains("Package")) {
-            artifact = new Package(item);
-            ((Package) artifact).setContains(getArtifacts(artifact.getPath()));
-            structure.addPackage((Package) artifact);
-            LOGGER.info("[CREATE] - PACKAGE - {}", artifact.getPath());
-          } else if (types.contains("Class")) {
-            artifact = new Class(item);
-            structure.addClass((Class) artifact);
-            LOGGER.info("[CREATE] - CLASS - {}", artifact.getPath());
-          } else if (types.contains("Interface")) {
-            artifact = new Interface(item);
-            structure.addInterface((Interface) artifact);
-            LOGGER.info("[CREATE] - INTERFACE - {}", artifact.getPath());
-          } else if (types.contains("Enum")) {
-            artifact = new Enum(item);
-            structure.addEnum((Enum) artifact);
-            LOGGER.info("[CREATE] - ENUM - {}", artifact.getPath());
-          } else {
-            artifact = new Annotation(item);
-            structure.addAnnotation((Annotation) artifact);
-            LOGGER.info("[CREATE] - ANNOTATION - {}", artifact.getPath());
-          }
+  @Override
+  public DDDStructure analyzeStructure(String path) {
+    return analyzeStructureAsync(path).join();
+  }
 
-          artifacts.add(artifact);
-        });
-    return artifacts;
+  /**
+   * Analyse the structure without blocking the caller. The phases run on the executor,
+   * the future is completed by the thread of the last phase.
+   *
+   * @param path : fully qualified name of the system module
+   * @return future of the analysed structure
+   */
+  @Override
+  public CompletableFuture<DDDStructure> analyzeStructureAsync(String path) {
+    AnalysisProgress progress = reporter.start(path);
+    return metrics.recordAsync(PHASE_ANALYSE, path, () -> analyze(path, progress));
   }
 
-  private void analyzeClasses() {
-    structure.getClasses().stream()
-        .parallel()
-        .forEach(item -> {
-          item.setFields(driver);
-          item.setMethods(driver);
-          item.setSuperClass(driver, structure.getClasses());
-          item.setImplInterfaces(driver, structure.getInterfaces());
-          item.setAnnotations(driver, structure.getAnnotations());
-          item.setDependencies(driver, structure.getPath());
-
-          if (item.getSuperClass() != null) {
-            item.setType(DDDType.ENTITY);
-            item.getSuperClass().setType(DDDType.ENTITY);
+  private CompletableFuture<DDDStructure> analyze(String path, AnalysisProgress progress) {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath(path);
+    CompletableFuture<HashMap<String, String>> checksums = checksumService != null
+        ? metrics.recordAsync(PHASE_CHECKSUMS, path, () -> checksumService.getChecksums(path))
+        : CompletableFuture.completedFuture(null);
+    progress.setPhase(PHASE_DISCOVERY);
+    return metrics.recordAsync(PHASE_DISCOVERY, path,
+        () -> getArtifacts(structure, path, progress))
+        .thenCombine(checksums, (artifacts, current) -> {
+          structure.setStructure(artifacts);
+          return current;
+        })
+        .thenCompose(current -> {
+          progress.setPhase(PHASE_LOADING);
+          return metrics.recordAsync(PHASE_LOADING, path,
+              () -> loadArtifacts(structure, path, current, progress));
+        })
+        .thenRunAsync(() -> record(progress, PHASE_CLASSIFICATION, () -> {
+          analyzeClasses(structure);
+          analyzeInterfaces(structure);
+        }), executor.getHandoffExecutor())
+        .thenRun(() -> record(progress, PHASE_DOMAINS, () -> {
+          setupDomains(structure);
+          analyseDomains(structure);
+        }))
+        .thenRun(() -> record(progress, PHASE_INFRASTRUCTURE,
+            () -> findInfrastructure(structure)))
+        .thenRun(() -> record(progress, PHASE_EVENTS, () -> findEvents(structure)))
+        .thenApply(ignored -> {
+          structure.trimToSize();
+          if (checksums.join() != null) {
+            snapshots.put(path, new AnalysisSnapshot(checksums.join(), structure.copy()));
           }
+          metrics.countArtifacts(structure);
+          return structure;
         });
+  }
 
-    structure.getClasses().stream()
-        .parallel()
-        .forEach(item -> item.setType(structure));
+  private void record(AnalysisProgress progress, String phase, Runnable action) {
+    progress.setPhase(phase);
+    metrics.record(phase, progress.getPath(), action);
   }
 
-  private void analyzeInterfaces() {
-    structure.getInterfaces().stream()
-        .parallel()
-        .forEach(item -> {
-          item.setFields(driver);
-          item.setMethods(driver);
-          item.setImplInterfaces(driver, structure.getInterfaces());
-          item.setAnnotations(driver, structure.getAnnotations());
+  private CompletableFuture<Void> loadArtifacts(DDDStructure structure, String path,
+                                                Map<String, String> checksums,
+                                                AnalysisProgress progress) {
+    AnalysisSnapshot snapshot = checksums != null ? snapshots.get(path) : null;
+    if (snapshot != null) {
+      IncrementalArtifactService incrementalService =
+          new IncrementalArtifactService(queries, structure);
+      List<File> changed = incrementalService.getChangedArtifacts(snapshot, checksums);
+      if (changed.size() <= checksums.size() * maxChangedRatio) {
+        progress.count("read.changed", changed.size());
+        return incrementalService.loadArtifacts(snapshot, changed);
+      }
+      LOGGER.info("[READ] - INCREMENTAL - {} artifacts changed, read all", changed.size());
+    }
+    return new JavaArtifactBulkService(queries, structure).loadArtifactsAsync(path);
+  }
 
-          item.setType();
+  private CompletableFuture<ArrayList<Artifact>> getArtifacts(DDDStructure structure,
+                                                              String path,
+                                                              AnalysisProgress progress) {
+    HashMap<String, Package> modules = new HashMap<>();
+    LinkedHashMap<Artifact, String> parents = new LinkedHashMap<>();
+
+    LOGGER.info("[READ] Artifacts of {}", path);
+    return queries.forEach("artifacts", QUERY_ARTIFACTS, Values.parameters("path", path),
+        item -> {
+          Artifact artifact = convertResultToArtifact(structure, item, progress);
+          if (artifact instanceof Package) {
+            modules.putIfAbsent(artifact.getPath(), (Package) artifact);
+          }
+          parents.put(artifact, item.get("parent").asString());
+        })
+        .thenApply(ignored -> linkArtifacts(modules, parents))
+        .exceptionally(e -> {
+          LOGGER.error(e.getMessage(), e);
+          return new ArrayList<>();
         });
   }
 
-  private void analyzeEnums() {
-    structure.getEnums().stream()
-        .parallel()
-        .forEach(item -> {
-          item.setFields(driver);
-          item.setAnnotations(driver, structure.getAnnotations());
-        });
+  private ArrayList<Artifact> linkArtifacts(HashMap<String, Package> modules,
+                                            LinkedHashMap<Artifact, String> parents) {
+    ArrayList<Artifact> artifacts = new ArrayList<>();
+    parents.forEach((artifact, parent) -> {
+      Package module = modules.get(parent);
+      if (module != null) {
+        module.getContains().add(artifact);
+      } else {
+        artifacts.add(artifact);
+      }
+    });
+    return artifacts;
   }
 
-  private void analyzeAnnotations() {
-    structure.getAnnotations().stream()
-        .parallel()
-        .forEach(item -> {
-          item.setFields(driver);
-          item.setMethods(driver);
-          item.setAnnotations(driver, structure.getAnnotations());
-        });
+  private Artifact convertResultToArtifact(DDDStructure structure, Record item,
+                                           AnalysisProgress progress) {
+    List<Object> types = item.get("types").asList();
+    Artifact artifact;
+
+    if (types.contains("Package")) {
+      artifact = new Package(item);
+      structure.addPackage((Package) artifact);
+      progress.count("create.package");
+      LOGGER.trace("[CREATE] - PACKAGE - {}", artifact.getPath());
+    } else if (types.contains("Class")) {
+      artifact = new Class(item);
+      structure.addClass((Class) artifact);
+      progress.count("create.class");
+      LOGGER.trace("[CREATE] - CLASS - {}", artifact.getPath());
+    } else if (types.contains("Interface")) {
+      artifact = new Interface(item);
+      structure.addInterface((Interface) artifact);
+      progress.count("create.interface");
+      LOGGER.trace("[CREATE] - INTERFACE - {}", artifact.getPath());
+    } else if (types.contains("Enum")) {
+      artifact = new Enum(item);
+      structure.addEnum((Enum) artifact);
+      progress.count("create.enum");
+      LOGGER.trace("[CREATE] - ENUM - {}", artifact.getPath());
+    } else {
+      artifact = new Annotation(item);
+      structure.addAnnotation((Annotation) artifact);
+      progress.count("create.annotation");
+      LOGGER.trace("[CREATE] - ANNOTATION - {}", artifact.getPath());
+    }
+    return artifact;
   }
 
-  private void setupDomains() {
-    structure.getClasses().stream()
-        .parallel()
-        .forEach(item -> {
-          if (item.isTypeOf(DDDType.ENTITY)
-              || item.isTypeOf(DDDType.VALUE_OBJECT)
-              || item.isTypeOf(DDDType.REPOSITORY)
-              || item.isTypeOf(DDDType.FACTORY)) {
-            addDomain(item);
-          }
-        });
+  private void analyzeClasses(DDDStructure structure) {
+    executor.forEach(structure.getClasses(), item -> {
+      if (item.getSuperClass() != null) {
+        item.setType(DDDType.ENTITY);
+        item.getSuperClass().setType(DDDType.ENTITY);
+      }
+    });
 
-    structure.getInterfaces().stream()
-        .parallel()
-        .forEach(item -> {
-          if (item.isTypeOf(DDDType.REPOSITORY)
-              || item.isTypeOf(DDDType.FACTORY)) {
-            addDomain(item);
-          }
-        });
+    executor.forEach(structure.getClasses(), item -> item.setType(structure));
+  }
+
+  private void analyzeInterfaces(DDDStructure structure) {
+    executor.forEach(structure.getInterfaces(), Interface::setType);
+  }
 
-    structure.getEnums().stream()
-        .parallel()
-        .forEach(this::addDomain);
+  private void setupDomains(DDDStructure structure) {
+    executor.forEach(structure.getClasses(), item -> {
+      if (item.isTypeOf(DDDType.ENTITY)
+          || item.isTypeOf(DDDType.VALUE_OBJECT)
+          || item.isTypeOf(DDDType.REPOSITORY)
+          || item.isTypeOf(DDDType.FACTORY)) {
+        addDomain(structure, item);
+      }
+    });
+
+    executor.forEach(structure.getInterfaces(), item -> {
+      if (item.isTypeOf(DDDType.REPOSITORY)
+          || item.isTypeOf(DDDType.FACTORY)) {
+        addDomain(structure, item);
+      }
+    });
+
+    executor.forEach(structure.getEnums(), item -> addDomain(structure, item));
   }
 
-  private void addDomain(Artifact item) {
+  private void addDomain(DDDStructure structure, Artifact item) {
     String[] split = item.getPath().split("[.]");
     String domain = split[split.length - 2];
     structure.addDomain(domain);
     item.setDomain(domain);
   }
 
-  private void analyseDomains() {
-    structure.getPackages().stream()
-        .parallel()
-        .forEach(item -> item.setAggregateRoot(structure));
+  private void analyseDomains(DDDStructure structure) {
+    executor.forEach(structure.getPackages(), item -> item.setAggregateRoot(structure));
   }
 
-  private void findInfrastructure() {
-    structure.getClasses().stream()
-        .parallel()
-        .forEachOrdered(artifact -> artifact.setInfrastructure(structure));
+  private void findInfrastructure(DDDStructure structure) {
+    structure.getClasses()
+        .forEach(artifact -> artifact.setInfrastructure(structure));
   }
 
-  private void findEvents() {
-    structure.getClasses().stream()
-        .parallel()
-        .forEach(Class::setDomainEvent);
+  private void findEvents(DDDStructure structure) {
+    executor.forEach(structure.getClasses(), Class::setDomainEvent);
   }
 }
@@ -0,0 +1,37 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import illumi.code.ddd.model.DDDStructure;
+
+import java.util.Map;
+
+/**
+ * Last analysed structure of a system module with the checksums of its artifacts,
+ * which were read from the graph before the structure was loaded. The structure is a copy,
+ * which is not shared with the cache or the sessions, so it is not changed by an evaluation
+ * or a refactoring.
+ */
+public class AnalysisSnapshot {
+
+  private final Map<String, String> checksums;
+  private final DDDStructure structure;
+
+  public AnalysisSnapshot(Map<String, String> checksums, DDDStructure structure) {
+    this.checksums = checksums;
+    this.structure = structure;
+  }
+
+  public DDDStructure getStructure() {
+    return structure;
+  }
+
+  /**
+   * Check if the artifact is unchanged since the snapshot has been taken.
+   *
+   * @param path     : fully qualified name of the artifact
+   * @param checksum : current checksum of the artifact
+   * @return true, if the checksum is the same
+   */
+  public boolean isUnchanged(String path, String checksum) {
+    return checksum != null && checksum.equals(checksums.get(path));
+  }
+}
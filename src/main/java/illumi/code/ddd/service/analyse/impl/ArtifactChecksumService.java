@@ -0,0 +1,67 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Values;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ArtifactChecksumService {
+  private static final String QUERY_CHECKSUMS =
+      "MATCH (root:Package)-[:CONTAINS*]->(a:Java) "
+          + "WHERE root.fqn = {path} "
+          + "AND (a:Class OR a:Interface OR a:Enum OR a:Annotation) "
+          + "OPTIONAL MATCH (a)-[r:DECLARES|EXTENDS|IMPLEMENTS|DEPENDS_ON]->(member) "
+          + "WITH a, collect(DISTINCT type(r) + ':' "
+          + "+ coalesce(member.visibility, '') + ':' "
+          + "+ coalesce(member.signature, member.fqn, '')) as members "
+          + "OPTIONAL MATCH (a)-[:DECLARES*0..1]->(child)"
+          + "-[:ANNOTATED_BY]->(:Annotation)-[:OF_TYPE]->(type:Type) "
+          + "RETURN a.fqn as path, members, "
+          + "collect(DISTINCT coalesce(child.name, '') + '@' + type.fqn) as annotations";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactChecksumService.class);
+
+  private AsyncQueryService queries;
+
+  public ArtifactChecksumService(AsyncQueryService queries) {
+    this.queries = queries;
+  }
+
+  /**
+   * Read a checksum of every class, interface, enum and annotation below the root module.
+   * The checksum covers the fields, methods, super classes, interfaces, dependencies and
+   * annotations of an artifact, so it changes, if one of them has been changed by a new scan.
+   *
+   * @param path : fully qualified name of the system module
+   * @return future of the checksums by the fully qualified name of the artifacts,
+   *         or null if they could not be read
+   */
+  public CompletableFuture<HashMap<String, String>> getChecksums(String path) {
+    HashMap<String, String> checksums = new HashMap<>();
+
+    LOGGER.info("[READ] - CHECKSUM - {}", path);
+    return queries.forEach("checksums", QUERY_CHECKSUMS, Values.parameters("path", path),
+        item -> checksums.put(item.get("path").asString(), checksum(item)))
+        .thenApply(ignored -> checksums)
+        .exceptionally(e -> {
+          LOGGER.error(e.getMessage(), e);
+          return null;
+        });
+  }
+
+  static String checksum(Record item) {
+    List<String> values = new ArrayList<>();
+    item.get("members").asList().forEach(member -> values.add(String.valueOf(member)));
+    item.get("annotations").asList().forEach(annotation -> values.add("@" + annotation));
+    values.sort(String::compareTo);
+    return UUID.nameUUIDFromBytes(String.join("\n", values).getBytes(StandardCharsets.UTF_8))
+        .toString();
+  }
+}
@@ -0,0 +1,211 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import illumi.code.ddd.service.executor.AnalyseExecutor;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.QueryProfiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.summary.ResultSummary;
+
+/**
+ * Runs Cypher queries on the asynchronous session API of the Neo4j-Driver.
+ * At most a configured number of queries are in flight, further queries wait
+ * until a running one has been completed.
+ * The records are pulled in batches and passed to an executor, so the actions never run
+ * on the I/O threads of the driver. The next batch is only pulled, after the previous one
+ * has been consumed, so the driver stops reading from the connection while the executor
+ * is saturated. The returned futures are completed on the executor as well.
+ * The queries and their records are counted per value of the parameter path,
+ * which is the fully qualified name of the system module.
+ */
+public class AsyncQueryService {
+
+  static final int BATCH_SIZE = 256;
+
+  private final Driver driver;
+  private final int maxInFlight;
+  private final AnalysisMetrics metrics;
+  private final QueryProfiler profiler;
+  private final Executor consumer;
+
+  private final AtomicInteger inFlight;
+  private final Queue<Runnable> pending;
+
+  /**
+   * Constructor of AsyncQueryService.
+   *
+   * @param driver      : Neo4j-Driver
+   * @param maxInFlight : maximal number of queries running at the same time
+   */
+  public AsyncQueryService(Driver driver, int maxInFlight) {
+    this(driver, maxInFlight, AnalysisMetrics.getDefault(), QueryProfiler.getDefault());
+  }
+
+  /**
+   * Constructor of AsyncQueryService.
+   *
+   * @param driver      : Neo4j-Driver
+   * @param maxInFlight : maximal number of queries running at the same time
+   * @param metrics     : counters of the queries and records
+   * @param profiler    : profiler of the query executions
+   */
+  public AsyncQueryService(Driver driver, int maxInFlight, AnalysisMetrics metrics,
+                           QueryProfiler profiler) {
+    this(driver, maxInFlight, metrics, profiler,
+        AnalyseExecutor.getDefault().getHandoffExecutor());
+  }
+
+  /**
+   * Constructor of AsyncQueryService.
+   *
+   * @param driver      : Neo4j-Driver
+   * @param maxInFlight : maximal number of queries running at the same time
+   * @param metrics     : counters of the queries and records
+   * @param profiler    : profiler of the query executions
+   * @param consumer    : executor, which passes the records to the actions and must not
+   *                      run them on the calling I/O thread
+   */
+  public AsyncQueryService(Driver driver, int maxInFlight, AnalysisMetrics metrics,
+                           QueryProfiler profiler, Executor consumer) {
+    this.driver = driver;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.metrics = metrics;
+    this.profiler = profiler;
+    this.consumer = consumer;
+    this.inFlight = new AtomicInteger();
+    this.pending = new ConcurrentLinkedQueue<>();
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Run a query and pass the records to the action in batches on the executor.
+   * The records of one query are passed in order and never concurrently.
+   *
+   * @param name       : name of the query, which is used by the profiler
+   * @param query      : Cypher query
+   * @param parameters : parameters of the query
+   * @param action     : consumer of the records
+   * @return future, which is completed after all records have been consumed
+   */
+  public CompletableFuture<Void> forEach(String name, String query, Value parameters,
+                                         Consumer<Record> action) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    pending.add(() -> execute(name, query, parameters, action, future));
+    drain();
+    return future;
+  }
+
+  private void drain() {
+    while (!pending.isEmpty()) {
+      int current = inFlight.get();
+      if (current >= maxInFlight) {
+        return;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        Runnable next = pending.poll();
+        if (next != null) {
+          next.run();
+        } else {
+          inFlight.decrementAndGet();
+        }
+      }
+    }
+  }
+
+  private void execute(String name, String query, Value parameters, Consumer<Record> action,
+                       CompletableFuture<Void> future) {
+    String path = parameters.containsKey("path") ? parameters.get("path").asString() : null;
+    metrics.countQuery(path);
+
+    Session session;
+    try {
+      session = driver.session();
+    } catch (Exception e) {
+      release(future, e);
+      return;
+    }
+
+    QueryProfiler.Execution execution = profiler.start(name, query, parameters);
+    CompletionStage<Throwable> result;
+    try {
+      result = session.runAsync(execution.getStatement(), parameters)
+          .thenCompose(cursor -> consume(cursor, execution, action))
+          .handle((summary, error) -> {
+            execution.finish(summary);
+            return error;
+          });
+    } catch (Exception e) {
+      result = CompletableFuture.completedFuture(e);
+    }
+
+    result
+        .thenCompose(error -> session.closeAsync().handle((ignored, closeError) -> error))
+        .thenAcceptAsync(error -> {
+          metrics.countRows(path, execution.getRows());
+          release(future, error);
+        }, consumer);
+  }
+
+  /**
+   * Pass the records of the cursor to the action, one batch after the other.
+   */
+  private CompletionStage<ResultSummary> consume(StatementResultCursor cursor,
+                                                 QueryProfiler.Execution execution,
+                                                 Consumer<Record> action) {
+    return pull(cursor, execution, new ArrayList<>(BATCH_SIZE))
+        .thenCompose(batch -> {
+          if (batch.isEmpty()) {
+            return cursor.summaryAsync();
+          }
+          return CompletableFuture.runAsync(() -> batch.forEach(action), consumer)
+              .thenCompose(ignored -> batch.size() < BATCH_SIZE
+                  ? cursor.summaryAsync()
+                  : consume(cursor, execution, action));
+        });
+  }
+
+  /**
+   * Pull records from the cursor, until the batch is full or the cursor is exhausted.
+   */
+  private CompletionStage<List<Record>> pull(StatementResultCursor cursor,
+                                             QueryProfiler.Execution execution,
+                                             List<Record> batch) {
+    return cursor.nextAsync().thenCompose(record -> {
+      if (record == null) {
+        return CompletableFuture.completedFuture(batch);
+      }
+      execution.countRow();
+      batch.add(record);
+      return batch.size() < BATCH_SIZE
+          ? pull(cursor, execution, batch)
+          : CompletableFuture.completedFuture(batch);
+    });
+  }
+
+  private void release(CompletableFuture<Void> future, Throwable error) {
+    inFlight.decrementAndGet();
+    drain();
+    if (error != null) {
+      future.completeExceptionally(error);
+    } else {
+      future.complete(null);
+    }
+  }
+}
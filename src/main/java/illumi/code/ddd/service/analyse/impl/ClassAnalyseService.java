@@ -3,13 +3,14 @@ package illumi.code.ddd.service.analyse.impl;
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
 import illumi.code.ddd.model.artifacts.Class;
-import illumi.code.ddd.model.artifacts.Field;
-import illumi.code.ddd.model.artifacts.Method;
-import org.apache.commons.lang3.StringUtils;
+import illumi.code.ddd.model.artifacts.ClassFeatures;
+import illumi.code.ddd.model.index.DependencyIndex;
+import illumi.code.ddd.model.index.NameIndex;
+
+import java.util.List;
+import java.util.function.Predicate;
 
 public class ClassAnalyseService {
-  private static final String REPOSITORY = "Repository";
-  private static final String FACTORY = "Factory";
 
   private Class artifact;
   private DDDStructure structure;
@@ -50,127 +51,38 @@ public class ClassAnalyseService {
   }
 
   private boolean isValueObject() {
-    int ctr = 0;
-    for (Field field : artifact.getFields()) {
-      if (isInvalidValueObjectField(field)) {
-        return false;
-      } else if (field.getType().startsWith("java.")
-          || field.getType().contains(structure.getPath())) {
-        ctr++;
-      }
-    }
-    return !this.artifact.getFields().isEmpty()
-        && (ctr == this.artifact.getFields().size()
-        || containsModelMethods());
-  }
-
-  private boolean isInvalidValueObjectField(Field field) {
-    return isId(field)
-        || isConstant(field)
-        || isRepositoryOrFactory(field);
-  }
-
-  private boolean isId(Field field) {
-    return Field.isId(field)
-        && !(this.artifact.getLowerName().endsWith("id"));
-  }
-
-  private boolean isRepositoryOrFactory(Field field) {
-    String[] split = field.getType().split("[.]");
-    String type = split[split.length - 1];
-
-    return type.contains(REPOSITORY)
-        || field.getName().contains(REPOSITORY.toLowerCase())
-        || type.contains(FACTORY)
-        || field.getName().contains(FACTORY.toLowerCase());
-  }
-
-  private boolean containsModelMethods() {
-    long constructors = artifact.getMethods().stream()
-        .filter(method -> method.getName().equalsIgnoreCase("<init>")).count();
-    return artifact.getMethods().isEmpty()
-        || constructors == artifact.getMethods().size()
-        || containsEqualsOrHashCode()
-        || containsGetterOrSetter();
-  }
-
-  private boolean containsEqualsOrHashCode() {
-
-    for (Method method : this.artifact.getMethods()) {
-      if (method.getName().equalsIgnoreCase("equals")
-          ^ method.getName().equalsIgnoreCase("hashCode")) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean containsGetterOrSetter() {
-    for (Method method : this.artifact.getMethods()) {
-      if (method.getName().startsWith("get")
-          ^ method.getName().startsWith("set")) {
-        return true;
-      }
-    }
-    return containsUnconventionalGetter();
-  }
-
-  private boolean containsUnconventionalGetter() {
-    for (Method method : this.artifact.getMethods()) {
-      for (Field field : this.artifact.getFields()) {
-        if (method.getSignature().startsWith(field.getType())) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return this.artifact.getFeatures().isValueObject(structure.getPath());
   }
 
   private boolean isEntity() {
-
-    for (Field field : this.artifact.getFields()) {
-      if (isConstant(field)) {
-        return false;
-      } else if (Field.isId(field)) {
-        return true;
-      }
+    ClassFeatures features = this.artifact.getFeatures();
+    if (features.isConstantBeforeId()) {
+      return false;
+    } else if (features.hasIdField()) {
+      return true;
     }
-    return !this.artifact.getFields().isEmpty()
-        && containsModelMethods()
+    return features.hasFields()
+        && features.containsModelMethods()
         && !containsEntityName();
   }
 
   private boolean isService() {
-    for (Field field : this.artifact.getFields()) {
-      if (field.getType().contains(REPOSITORY)) {
-        return true;
-      }
-    }
-    return containsEntityName();
+    return this.artifact.getFeatures().hasRepositoryField()
+        || containsEntityName();
   }
 
   private boolean isApplicationService() {
-    for (Method method : this.artifact.getMethods()) {
-      if (method.getName().equalsIgnoreCase("main")) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean isConstant(Field field) {
-    return StringUtils.isAllUpperCase(field.getName());
+    return this.artifact.getFeatures().hasMainMethod();
   }
 
   private boolean containsEntityName() {
-    for (Class item : structure.getClasses()) {
-      if (this.artifact != item
-          && this.artifact.getName().contains(item.getName())
-          && !this.artifact.getName().equals(item.getName() + "s")) {
-        return true;
-      }
-    }
-    return false;
+    String name = this.artifact.getName();
+    NameIndex classNames = structure.getClassNames();
+    // the own name is only contained, if another class has the same name
+    int own = structure.getClass(this.artifact.getPath()) == this.artifact ? 1 : 0;
+    return classNames.anyMatch(name, item ->
+        (!item.equals(name) || classNames.count(item) > own)
+            && !name.equals(item + "s"));
   }
 
   /**
@@ -207,8 +119,22 @@ public class ClassAnalyseService {
   }
 
   private boolean onlyUsedByInfrastructure() {
+    DependencyIndex index = structure.getDependencyIndex();
+    if (!index.contains(artifact)) {
+      return onlyUsedByInfrastructure(structure.getClasses());
+    }
+    Predicate<Class> notInfrastructure = item -> !item.isTypeOf(DDDType.INFRASTRUCTURE);
+    if (index.anyDependent(artifact, notInfrastructure)
+        || index.anySubclass(artifact, notInfrastructure)) {
+      return false;
+    }
+    return index.countDependents(artifact) > 0
+        || index.countSubclasses(artifact) > 0;
+  }
+
+  private boolean onlyUsedByInfrastructure(List<Class> classes) {
     boolean usedByInfra = false;
-    for (Class item : structure.getClasses()) {
+    for (Class item : classes) {
       if (usedByClass(item)) {
         if (!item.isTypeOf(DDDType.INFRASTRUCTURE)) {
           return false;
@@ -226,21 +152,6 @@ public class ClassAnalyseService {
   }
 
   private boolean isDomainEvent() {
-    boolean containsTimestamp = false;
-    boolean containsIdentity = false;
-
-    for (Field field : this.artifact.getFields()) {
-      if (field.getName().contains("time")
-          || field.getName().contains("date")
-          || field.getType().contains("java.time.")) {
-        containsTimestamp = true;
-
-      } else if (!field.getName().equalsIgnoreCase("id")
-          && field.getName().toUpperCase().endsWith("ID")) {
-        containsIdentity = true;
-      }
-    }
-
-    return containsTimestamp && containsIdentity;
+    return this.artifact.getFeatures().isDomainEvent();
   }
 }
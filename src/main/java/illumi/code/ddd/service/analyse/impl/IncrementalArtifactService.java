@@ -0,0 +1,137 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Annotation;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Enum;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.File;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class IncrementalArtifactService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalArtifactService.class);
+
+  private AsyncQueryService queries;
+  private DDDStructure structure;
+
+  /**
+   * Constructor of IncrementalArtifactService.
+   *
+   * @param queries   : asynchronous query service of the Neo4j-Driver
+   * @param structure : system structure containing the discovered artifacts
+   */
+  public IncrementalArtifactService(AsyncQueryService queries, DDDStructure structure) {
+    this.queries = queries;
+    this.structure = structure;
+  }
+
+  /**
+   * Find the discovered artifacts, which are new or have been changed since the snapshot.
+   *
+   * @param snapshot  : last analysed structure
+   * @param checksums : current checksums of the artifacts
+   * @return changed artifacts
+   */
+  public List<File> getChangedArtifacts(AnalysisSnapshot snapshot, Map<String, String> checksums) {
+    List<File> changed = new ArrayList<>();
+    for (File file : getFiles(structure)) {
+      if (find(snapshot.getStructure(), file) == null
+          || !snapshot.isUnchanged(file.getPath(), checksums.get(file.getPath()))) {
+        changed.add(file);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Take over fields, methods, super classes, interfaces, annotations and dependencies
+   * of the unchanged artifacts from the snapshot and read them from the graph only for
+   * the changed artifacts. The changed artifacts are read by the queries of a full read,
+   * which are filtered by their fully qualified names.
+   *
+   * @param snapshot : last analysed structure
+   * @param changed  : artifacts which have been changed since the snapshot
+   * @return future, which is completed after the changed artifacts have been read
+   */
+  public CompletableFuture<Void> loadArtifacts(AnalysisSnapshot snapshot, List<File> changed) {
+    LOGGER.info("[READ] - INCREMENTAL - {} of {} artifacts changed",
+        changed.size(), getFiles(structure).size());
+
+    Set<File> reload = Collections.newSetFromMap(new IdentityHashMap<>());
+    reload.addAll(changed);
+    for (File file : getFiles(structure)) {
+      if (!reload.contains(file)) {
+        takeOver(find(snapshot.getStructure(), file), file);
+      }
+    }
+
+    List<String> paths = new ArrayList<>(changed.size());
+    for (File file : changed) {
+      LOGGER.trace("[READ] - CHANGED - {}", file.getPath());
+      paths.add(file.getPath());
+    }
+    return new JavaArtifactBulkService(queries, structure)
+        .loadArtifactsAsync(structure.getPath(), paths);
+  }
+
+  private void takeOver(File old, File file) {
+    for (Field field : old.getFields()) {
+      file.addField(new Field(field));
+    }
+    for (Method method : old.getMethods()) {
+      file.addMethod(new Method(method));
+    }
+    for (Interface implInterface : old.getImplInterfaces()) {
+      Interface resolved = structure.getInterface(implInterface.getPath());
+      if (resolved != null) {
+        file.addImplInterface(resolved);
+      }
+    }
+    for (Annotation annotation : old.getAnnotations()) {
+      Annotation resolved = structure.getAnnotation(annotation.getPath());
+      if (resolved != null) {
+        file.addAnnotation(resolved);
+      }
+    }
+    if (file instanceof Class) {
+      Class oldClass = (Class) old;
+      Class artifact = (Class) file;
+      if (oldClass.getSuperClass() != null) {
+        artifact.setSuperClass(structure.getClass(oldClass.getSuperClass().getPath()));
+      }
+      oldClass.getDependencies().forEach(artifact::addDependencies);
+    }
+  }
+
+  private static File find(DDDStructure structure, File file) {
+    if (file instanceof Class) {
+      return structure.getClass(file.getPath());
+    } else if (file instanceof Interface) {
+      return structure.getInterface(file.getPath());
+    } else if (file instanceof Enum) {
+      return structure.getEnum(file.getPath());
+    }
+    return structure.getAnnotation(file.getPath());
+  }
+
+  private static List<File> getFiles(DDDStructure structure) {
+    List<File> files = new ArrayList<>(structure.getClasses());
+    files.addAll(structure.getInterfaces());
+    files.addAll(structure.getEnums());
+    files.addAll(structure.getAnnotations());
+    return files;
+  }
+}
@@ -0,0 +1,250 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Annotation;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Enum;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.File;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class JavaArtifactBulkService {
+  private static final String MATCH_ARTIFACTS =
+      "MATCH (root:Package)-[:CONTAINS*]->(a:Java)";
+
+  private static final String WHERE_PATH = "WHERE root.fqn = {path} ";
+  private static final String WHERE_CHANGED = WHERE_PATH + "AND a.fqn IN {changed} ";
+
+  private static final String QUERY_FIELDS =
+      MATCH_ARTIFACTS + "-[:DECLARES]->(f:Field) "
+          + WHERE_PATH
+          + "RETURN DISTINCT a.fqn as artifact, "
+          + "f.name as name, f.signature as type, f.visibility as visibility";
+
+  private static final String QUERY_METHODS =
+      MATCH_ARTIFACTS + "-[:DECLARES]->(m:Method) "
+          + WHERE_PATH
+          + "RETURN DISTINCT a.fqn as artifact, "
+          + "m.visibility as visibility, m.name as name, m.signature as signature";
+
+  private static final String QUERY_SUPER =
+      MATCH_ARTIFACTS + "-[:EXTENDS]->(super) "
+          + WHERE_PATH
+          + "RETURN DISTINCT a.fqn as artifact, super.fqn as superClass";
+
+  private static final String QUERY_IMPL =
+      MATCH_ARTIFACTS + "-[:IMPLEMENTS]->(i:Interface) "
+          + WHERE_PATH
+          + "RETURN DISTINCT a.fqn as artifact, i.fqn as interface";
+
+  private static final String QUERY_PARENT_ANNOTATIONS =
+      MATCH_ARTIFACTS + "-[:ANNOTATED_BY]->(annotation:Annotation)-[:OF_TYPE]->(type:Type) "
+          + WHERE_PATH
+          + "RETURN DISTINCT a.fqn as artifact, type.fqn as annotation";
+
+  private static final String QUERY_CHILD_ANNOTATIONS =
+      MATCH_ARTIFACTS + "-[:DECLARES]->(child:Java)"
+          + "-[:ANNOTATED_BY]->(annotation:Annotation)-[:OF_TYPE]->(type:Type) "
+          + WHERE_PATH + "AND (child:Field OR child:Method) "
+          + "RETURN DISTINCT a.fqn as artifact, type.fqn as annotation";
+
+  private static final String QUERY_DEPENDENCIES =
+      MATCH_ARTIFACTS + "-[:DEPENDS_ON]->(dependency:Java) "
+          + WHERE_PATH + "AND dependency.fqn CONTAINS {rootPath} "
+          + "RETURN DISTINCT a.fqn as artifact, dependency.fqn as dependencies";
+
+  private static final String ARTIFACT = "artifact";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JavaArtifactBulkService.class);
+
+  private AsyncQueryService queries;
+  private DDDStructure structure;
+
+  /**
+   * Constructor of JavaArtifactBulkService.
+   *
+   * @param queries   : asynchronous query service of the Neo4j-Driver
+   * @param structure : system structure containing the discovered artifacts
+   */
+  public JavaArtifactBulkService(AsyncQueryService queries, DDDStructure structure) {
+    this.queries = queries;
+    this.structure = structure;
+  }
+
+  /**
+   * Read fields, methods, super classes, interfaces, annotations and dependencies
+   * of all artifacts below the root module and assign them to the artifacts.
+   *
+   * @param path : fully qualified name of the system module
+   */
+  public void loadArtifacts(String path) {
+    loadArtifactsAsync(path).join();
+  }
+
+  /**
+   * Read fields, methods, super classes, interfaces, annotations and dependencies
+   * of all artifacts below the root module and assign them to the artifacts.
+   * The queries of all facets are running concurrently and their records are
+   * assigned to the artifacts as soon as they arrive.
+   *
+   * @param path : fully qualified name of the system module
+   * @return future, which is completed after all facets have been loaded
+   */
+  public CompletableFuture<Void> loadArtifactsAsync(String path) {
+    return loadArtifactsAsync(path, null);
+  }
+
+  /**
+   * Read fields, methods, super classes, interfaces, annotations and dependencies
+   * of some artifacts below the root module and assign them to the artifacts.
+   * The same queries as for all artifacts are used, which are only filtered by
+   * the fully qualified names of the artifacts.
+   *
+   * @param path      : fully qualified name of the system module
+   * @param artifacts : fully qualified names of the artifacts to read, or null to read all
+   * @return future, which is completed after all facets have been loaded
+   */
+  public CompletableFuture<Void> loadArtifactsAsync(String path, Collection<String> artifacts) {
+    if (artifacts != null && artifacts.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    List<Object> changed = artifacts != null ? new ArrayList<>(artifacts) : null;
+    Value parameters = parameters(changed, "path", path);
+
+    LOGGER.info("[READ] - FIELD - {}", path);
+    CompletableFuture<Void> fields = load("fields", QUERY_FIELDS, changed, parameters,
+        this::addField);
+
+    LOGGER.info("[READ] - METHOD - {}", path);
+    CompletableFuture<Void> methods = load("methods", QUERY_METHODS, changed, parameters,
+        this::addMethod);
+
+    LOGGER.info("[READ] - EXTEND - {}", path);
+    CompletableFuture<Void> superClasses = load("super", QUERY_SUPER, changed, parameters,
+        this::addSuperClass);
+
+    LOGGER.info("[READ] - IMPLEMENT - {}", path);
+    CompletableFuture<Void> interfaces = load("impl", QUERY_IMPL, changed, parameters,
+        this::addImplInterface);
+
+    LOGGER.info("[READ] - ANNOTATION - {}", path);
+    CompletableFuture<Void> annotations = load("parent-annotations", QUERY_PARENT_ANNOTATIONS,
+        changed, parameters, this::addAnnotation)
+        .thenCompose(ignored -> load("child-annotations", QUERY_CHILD_ANNOTATIONS,
+            changed, parameters, this::addAnnotation));
+
+    LOGGER.info("[READ] - DEPENDENCY - {}", path);
+    CompletableFuture<Void> dependencies = load("dependencies", QUERY_DEPENDENCIES, changed,
+        parameters(changed, "path", path, "rootPath", structure.getPath()),
+        this::addDependency);
+
+    return CompletableFuture
+        .allOf(fields, methods, superClasses, interfaces, annotations, dependencies)
+        .thenRun(this::removeInheritedDependencies);
+  }
+
+  private static Value parameters(List<Object> changed, Object... parameters) {
+    if (changed == null) {
+      return Values.parameters(parameters);
+    }
+    Object[] result = Arrays.copyOf(parameters, parameters.length + 2);
+    result[parameters.length] = "changed";
+    result[parameters.length + 1] = changed;
+    return Values.parameters(result);
+  }
+
+  private CompletableFuture<Void> load(String name, String query, List<Object> changed,
+                                       Value parameters, Consumer<Record> action) {
+    String filtered = changed != null ? query.replace(WHERE_PATH, WHERE_CHANGED) : query;
+    return queries.forEach(name, filtered, parameters, action)
+        .exceptionally(e -> {
+          LOGGER.error(e.getMessage(), e);
+          return null;
+        });
+  }
+
+  private File getFile(Record record) {
+    String path = record.get(ARTIFACT).asString();
+    File file = structure.getClass(path);
+    if (file == null) {
+      file = structure.getInterface(path);
+    }
+    if (file == null) {
+      file = structure.getEnum(path);
+    }
+    if (file == null) {
+      file = structure.getAnnotation(path);
+    }
+    return file;
+  }
+
+  private void addField(Record record) {
+    File file = getFile(record);
+    if (file != null && !record.get("name").isNull()) {
+      file.addField(new Field(record));
+    }
+  }
+
+  private void addMethod(Record record) {
+    File file = getFile(record);
+    if (file != null && !(file instanceof Enum) && !record.get("name").isNull()) {
+      file.addMethod(new Method(record));
+    }
+  }
+
+  private void addSuperClass(Record record) {
+    Class artifact = structure.getClass(record.get(ARTIFACT).asString());
+    if (artifact != null && artifact.getSuperClass() == null) {
+      artifact.setSuperClass(structure.getClass(record.get("superClass").asString()));
+    }
+  }
+
+  private void addImplInterface(Record record) {
+    File file = getFile(record);
+    Interface implInterface = structure.getInterface(record.get("interface").asString());
+    if ((file instanceof Class || file instanceof Interface) && implInterface != null) {
+      file.addImplInterface(implInterface);
+    }
+  }
+
+  private void addAnnotation(Record record) {
+    File file = getFile(record);
+    Annotation annotation = structure.getAnnotation(record.get("annotation").asString());
+    if (file != null && annotation != null) {
+      file.addAnnotation(annotation);
+    }
+  }
+
+  private void addDependency(Record record) {
+    Class artifact = structure.getClass(record.get(ARTIFACT).asString());
+    if (artifact != null) {
+      artifact.addDependencies(record.get("dependencies").asString());
+    }
+  }
+
+  private void removeInheritedDependencies() {
+    for (Class artifact : structure.getClasses()) {
+      if (artifact.getSuperClass() != null) {
+        artifact.getDependencies().remove(artifact.getSuperClass().getPath());
+      }
+
+      for (Interface implInterface : artifact.getImplInterfaces()) {
+        artifact.getDependencies().remove(implInterface.getPath());
+      }
+    }
+  }
+}
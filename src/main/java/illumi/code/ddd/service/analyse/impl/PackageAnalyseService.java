@@ -6,8 +6,12 @@ import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Field;
 import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.index.DependencyIndex;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 public class PackageAnalyseService {
   private Package module;
@@ -28,7 +32,7 @@ public class PackageAnalyseService {
         candidates.get(0).setType(DDDType.AGGREGATE_ROOT);
       } else if (!candidates.isEmpty()) {
         for (Class artifact : candidates) {
-          if (structure.getDomains().contains(artifact.getLowerName())) {
+          if (structure.containsDomain(artifact.getLowerName())) {
             artifact.setType(DDDType.AGGREGATE_ROOT);
             return;
           }
@@ -90,7 +94,7 @@ public class PackageAnalyseService {
   }
 
   private boolean isDomain() {
-    return structure.getDomains().contains(module.getName());
+    return structure.containsDomain(module.getName());
   }
 
   private ArrayList<Class> getAggregateRootCandidates() {
@@ -116,15 +120,28 @@ public class PackageAnalyseService {
   }
 
   private void setUsed(ArrayList<Class> entities) {
-    entities.stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
-          for (Class entity : entities) {
-            if (entity != artifact && entity.getDependencies().contains(artifact.getPath())) {
-              artifact.addUsed(entity.getPath());
-            }
-          }
-        });
+    DependencyIndex index = structure.getDependencyIndex();
+    if (!entities.stream().allMatch(index::contains)) {
+      setUsedByDependencies(entities);
+      return;
+    }
+    Set<Class> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    members.addAll(entities);
+    entities.forEach(artifact -> index.forEachDependent(artifact, entity -> {
+      if (entity != artifact && members.contains(entity)) {
+        artifact.addUsed(entity.getPath());
+      }
+    }));
+  }
+
+  private void setUsedByDependencies(ArrayList<Class> entities) {
+    entities.forEach(artifact -> {
+      for (Class entity : entities) {
+        if (entity != artifact && entity.getDependencies().contains(artifact.getPath())) {
+          artifact.addUsed(entity.getPath());
+        }
+      }
+    });
   }
 
   private ArrayList<Class> getEntityWithMinimalDependencies(ArrayList<Class> entities) {
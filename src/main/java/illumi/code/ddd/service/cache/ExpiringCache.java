@@ -0,0 +1,148 @@
+package illumi.code.ddd.service.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache with a maximal number of entries and a time to live.
+ * If the cache is full, the least recently used entry is evicted.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class ExpiringCache<K, V> {
+
+  private final int maxSize;
+  private final long timeToLive;
+  private final LongSupplier clock;
+
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  private long evictions;
+
+  /**
+   * Constructor of ExpiringCache.
+   *
+   * @param maxSize    : maximal number of entries
+   * @param timeToLive : time to live of an entry
+   * @param unit       : unit of the time to live
+   */
+  public ExpiringCache(int maxSize, long timeToLive, TimeUnit unit) {
+    this(maxSize, unit.toMillis(timeToLive), System::currentTimeMillis);
+  }
+
+  ExpiringCache(int maxSize, long timeToLive, LongSupplier clock) {
+    this.maxSize = Math.max(1, maxSize);
+    this.timeToLive = timeToLive;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        if (size() > ExpiringCache.this.maxSize) {
+          evictions++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Add or replace an entry.
+   *
+   * @param key   : key of the entry
+   * @param value : value of the entry
+   */
+  public synchronized void put(K key, V value) {
+    long now = clock.getAsLong();
+    removeExpired(now);
+    entries.put(key, new Entry<>(value, now + timeToLive));
+  }
+
+  /**
+   * Get the value of an entry, if it has not expired.
+   *
+   * @param key : key of the entry
+   * @return value or null
+   */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(clock.getAsLong())) {
+      entries.remove(key);
+      evictions++;
+      return null;
+    }
+    return entry.value;
+  }
+
+  /**
+   * Values of the entries, which have not expired, from the least to the most recently used.
+   *
+   * @return values
+   */
+  public synchronized List<V> values() {
+    removeExpired(clock.getAsLong());
+    List<V> values = new ArrayList<>(entries.size());
+    entries.values().forEach(entry -> values.add(entry.value));
+    return values;
+  }
+
+  public synchronized V remove(K key) {
+    Entry<V> entry = entries.remove(key);
+    return entry != null ? entry.value : null;
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Number of entries, which have not expired.
+   *
+   * @return number of entries
+   */
+  public synchronized int size() {
+    removeExpired(clock.getAsLong());
+    return entries.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  private void removeExpired(long now) {
+    Iterator<Entry<V>> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().isExpired(now)) {
+        iterator.remove();
+        evictions++;
+      }
+    }
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final long expiresAt;
+
+    Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package illumi.code.ddd.service.cache;
+
+import illumi.code.ddd.model.DDDStructure;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface ResultCacheService {
+
+  CompletableFuture<String> getFingerprint(String path);
+
+  DDDStructure get(String path, String fingerprint);
+
+  CompletableFuture<DDDStructure> get(String path, String fingerprint,
+                                      Supplier<CompletableFuture<DDDStructure>> loader);
+
+  void put(String path, String fingerprint, DDDStructure structure);
+}
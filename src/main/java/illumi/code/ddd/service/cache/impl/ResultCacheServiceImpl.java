@@ -0,0 +1,185 @@
+package illumi.code.ddd.service.cache.impl;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.cache.ExpiringCache;
+import illumi.code.ddd.service.cache.ResultCacheService;
+
+import io.micronaut.context.annotation.Value;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.StatementResultCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of analysed and evaluated structures, which are keyed by the path of the system module.
+ * A result is only valid as long as the graph has the same fingerprint. The
+ * fingerprint consists of the number of nodes and relationships, which Neo4j
+ * answers from its count store, and the id of the last committed transaction,
+ * which changes with every write of a new scan, so that renamed types or changed
+ * signatures are noticed as well. None of them scans the graph, so a cache hit
+ * costs three constant time queries, which are run on the asynchronous session API.
+ * Concurrent requests of the same path and fingerprint share one analysis.
+ */
+@Singleton
+public class ResultCacheServiceImpl implements ResultCacheService {
+
+  private static final String QUERY_NODES = "MATCH (n) RETURN count(n) as count";
+  private static final String QUERY_RELATIONSHIPS = "MATCH ()-[r]->() RETURN count(r) as count";
+  private static final String QUERY_TRANSACTION =
+      "CALL dbms.queryJmx('org.neo4j:instance=kernel#0,name=Transactions') "
+          + "YIELD attributes "
+          + "RETURN attributes.LastCommittedTxId.value as transaction";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResultCacheServiceImpl.class);
+
+  private Driver driver;
+
+  private ExpiringCache<String, Entry> results;
+
+  private final ConcurrentMap<String, CompletableFuture<DDDStructure>> loading =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructor of ResultCacheServiceImpl.
+   *
+   * @param driver     : Neo4j-Driver
+   * @param maxResults : maximal number of cached results
+   * @param ttlMinutes : minutes until a result expires
+   */
+  @Inject
+  public ResultCacheServiceImpl(Driver driver,
+                                @Value("${analyse.cache.max-size:16}") int maxResults,
+                                @Value("${analyse.cache.ttl-minutes:30}") long ttlMinutes) {
+    this.driver = driver;
+    this.results = new ExpiringCache<>(maxResults, ttlMinutes, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Fingerprint of the graph, which is read without blocking the caller.
+   *
+   * @param path : fully qualified name of the system module
+   * @return future of the fingerprint, which is null, if it could not be read
+   */
+  @Override
+  public CompletableFuture<String> getFingerprint(String path) {
+    Session session;
+    try {
+      session = driver.session();
+    } catch (Exception e) {
+      LOGGER.error(e.getMessage(), e);
+      return CompletableFuture.completedFuture(null);
+    }
+    return single(session, QUERY_NODES, "count")
+        .thenCompose(nodes -> single(session, QUERY_RELATIONSHIPS, "count")
+            .thenCompose(relationships -> single(session, QUERY_TRANSACTION, "transaction")
+                .thenApply(transaction -> nodes + ":" + relationships + ":" + transaction)))
+        .exceptionally(error -> {
+          LOGGER.error(error.getMessage(), error);
+          return null;
+        })
+        .thenCompose(fingerprint -> session.closeAsync()
+            .handle((ignored, closeError) -> fingerprint))
+        .toCompletableFuture();
+  }
+
+  private static CompletionStage<Long> single(Session session, String query, String key) {
+    return session.runAsync(query)
+        .thenCompose(StatementResultCursor::singleAsync)
+        .thenApply(record -> record.get(key).asLong());
+  }
+
+  @Override
+  public DDDStructure get(String path, String fingerprint) {
+    if (path == null || fingerprint == null) {
+      return null;
+    }
+    DDDStructure structure = lookup(path, fingerprint);
+    if (structure != null) {
+      LOGGER.info("[CACHE] - HIT - {} - {}", path, fingerprint);
+      return structure;
+    }
+    LOGGER.info("[CACHE] - MISS - {} - {}", path, fingerprint);
+    return null;
+  }
+
+  /**
+   * Get the cached result or load it, if there is none. Only the first of concurrent
+   * requests of the same path and fingerprint runs the loader, all others share its result.
+   * No caller is blocked, while the result is loaded.
+   *
+   * @param path        : fully qualified name of the system module
+   * @param fingerprint : fingerprint of the graph
+   * @param loader      : analysis of the path
+   * @return future of the cached or loaded structure
+   */
+  @Override
+  public CompletableFuture<DDDStructure> get(String path, String fingerprint,
+                                             Supplier<CompletableFuture<DDDStructure>> loader) {
+    DDDStructure cached = get(path, fingerprint);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    if (path == null || fingerprint == null) {
+      return loader.get();
+    }
+
+    String key = path + "@" + fingerprint;
+    CompletableFuture<DDDStructure> created = new CompletableFuture<>();
+    CompletableFuture<DDDStructure> running = loading.putIfAbsent(key, created);
+    if (running != null) {
+      LOGGER.info("[CACHE] - WAIT - {} - {}", path, fingerprint);
+      return running;
+    }
+    CompletableFuture<DDDStructure> loaded;
+    try {
+      DDDStructure structure = lookup(path, fingerprint);
+      loaded = structure != null ? CompletableFuture.completedFuture(structure) : loader.get();
+    } catch (RuntimeException e) {
+      loaded = new CompletableFuture<>();
+      loaded.completeExceptionally(e);
+    }
+    loaded.whenComplete((structure, error) -> {
+      if (error != null) {
+        created.completeExceptionally(error);
+      } else {
+        put(path, fingerprint, structure);
+        created.complete(structure);
+      }
+      loading.remove(key, created);
+    });
+    return created;
+  }
+
+  private DDDStructure lookup(String path, String fingerprint) {
+    Entry entry = results.get(path);
+    return entry != null && entry.fingerprint.equals(fingerprint) ? entry.structure : null;
+  }
+
+  @Override
+  public void put(String path, String fingerprint, DDDStructure structure) {
+    if (path != null && fingerprint != null && structure != null) {
+      results.put(path, new Entry(fingerprint, structure));
+    }
+  }
+
+  private static class Entry {
+    private final String fingerprint;
+    private final DDDStructure structure;
+
+    Entry(String fingerprint, DDDStructure structure) {
+      this.fingerprint = fingerprint;
+      this.structure = structure;
+    }
+  }
+}
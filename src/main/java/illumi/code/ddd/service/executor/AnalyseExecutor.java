@@ -0,0 +1,360 @@
+package illumi.code.ddd.service.executor;
+
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded executor of the analysis, fitness, metric and refactoring phases.
+ * It is separated from the common ForkJoinPool, so that a large analysis
+ * does not stall other requests on the same node.
+ * If the queue is full, the caller runs a task itself. Tasks handed off by I/O threads,
+ * which must never run them, are deferred instead and run by the next free thread.
+ * The active threads, the queued tasks and the tasks run by the caller or deferred
+ * are registered as meters.
+ */
+@Singleton
+public class AnalyseExecutor {
+
+  static final int DEFAULT_QUEUE_SIZE = 1024;
+
+  static final String ACTIVE_THREADS = "ddd.executor.active";
+  static final String QUEUED_TASKS = "ddd.executor.queued";
+  static final String CALLER_RUNS = "ddd.executor.caller.runs";
+  static final String DEFERRED_TASKS = "ddd.executor.deferred";
+
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private static final Runnable DRAIN = () -> { };
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AnalyseExecutor.class);
+
+  private final ThreadPoolExecutor pool;
+  private final int queueSize;
+  private final boolean virtualThreads;
+  private final AtomicLong callerRuns;
+  private final AtomicLong deferred;
+  private final Queue<Runnable> overflow;
+  private final Executor handoff;
+
+  /**
+   * Constructor of AnalyseExecutor with the default configuration.
+   */
+  public AnalyseExecutor() {
+    this(0, DEFAULT_QUEUE_SIZE, false);
+  }
+
+  /**
+   * Constructor of AnalyseExecutor, whose meters are registered on the global registry.
+   *
+   * @param poolSize       : number of threads, 0 for the number of processors
+   * @param queueSize      : number of waiting tasks, before the caller runs them itself
+   *                         or the tasks handed off are deferred
+   * @param virtualThreads : use virtual threads, if the JDK provides them
+   */
+  public AnalyseExecutor(int poolSize, int queueSize, boolean virtualThreads) {
+    this(poolSize, queueSize, virtualThreads, AnalysisMetrics.getDefault());
+  }
+
+  /**
+   * Constructor of AnalyseExecutor.
+   *
+   * @param poolSize       : number of threads, 0 for the number of processors
+   * @param queueSize      : number of waiting tasks, before the caller runs them itself
+   *                         or the tasks handed off are deferred
+   * @param virtualThreads : use virtual threads, if the JDK provides them
+   * @param metrics        : registry of the saturation of the executor
+   */
+  @Inject
+  public AnalyseExecutor(@Value("${analyse.executor.pool-size:0}") int poolSize,
+                         @Value("${analyse.executor.queue-size:1024}") int queueSize,
+                         @Value("${analyse.executor.virtual-threads:false}")
+                             boolean virtualThreads,
+                         AnalysisMetrics metrics) {
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    ThreadFactory threadFactory = createThreadFactory(virtualThreads);
+
+    this.queueSize = Math.max(1, queueSize);
+    this.virtualThreads = virtualThreads && !(threadFactory instanceof PlatformThreadFactory);
+    this.callerRuns = new AtomicLong();
+    this.deferred = new AtomicLong();
+    this.overflow = new ConcurrentLinkedQueue<>();
+    this.pool = new ThreadPoolExecutor(threads, threads,
+        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(this.queueSize),
+        threadFactory,
+        this::reject) {
+      @Override
+      protected void afterExecute(Runnable task, Throwable error) {
+        runDeferred();
+      }
+    };
+    this.pool.allowCoreThreadTimeOut(true);
+    this.handoff = task -> pool.execute(new Handoff(task));
+    bind(metrics.getRegistry());
+  }
+
+  private void bind(MeterRegistry registry) {
+    Gauge.builder(ACTIVE_THREADS, pool, ThreadPoolExecutor::getActiveCount)
+        .description("Threads of the executor, which are running a task")
+        .register(registry);
+    Gauge.builder(QUEUED_TASKS, pool, executor -> executor.getQueue().size())
+        .description("Tasks waiting in the queue of the executor")
+        .register(registry);
+    FunctionCounter.builder(CALLER_RUNS, callerRuns, AtomicLong::get)
+        .description("Tasks run by the caller, because the queue was full")
+        .register(registry);
+    FunctionCounter.builder(DEFERRED_TASKS, deferred, AtomicLong::get)
+        .description("Tasks handed off by I/O threads, which were deferred")
+        .register(registry);
+  }
+
+  /**
+   * Run a rejected task on the caller or defer it, if it has been handed off.
+   * A deferred task is run by a thread of the pool after its current task. If the
+   * threads have become idle in the meantime, one of them is woken up to run it.
+   */
+  private void reject(Runnable task, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      return;
+    }
+    if (task instanceof Handoff) {
+      deferred.incrementAndGet();
+      overflow.add(task);
+      if (executor.getQueue().offer(DRAIN)) {
+        executor.prestartCoreThread();
+      }
+    } else {
+      callerRuns.incrementAndGet();
+      task.run();
+    }
+  }
+
+  private void runDeferred() {
+    Runnable task;
+    while ((task = overflow.poll()) != null) {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        LOGGER.error(e.getMessage(), e);
+      }
+    }
+  }
+
+  private static ThreadFactory createThreadFactory(boolean virtualThreads) {
+    if (virtualThreads) {
+      try {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+            .getMethod("factory")
+            .invoke(builder);
+      } catch (ReflectiveOperationException e) {
+        LOGGER.warn("Virtual threads are not available, platform threads are used");
+      }
+    }
+    return new PlatformThreadFactory();
+  }
+
+  /**
+   * Executor of the services, which have not been created by the application context.
+   * It is created on first use, its daemon threads time out when idle and it is shut
+   * down with the JVM, as it is not closed by the application context.
+   *
+   * @return shared executor
+   */
+  public static AnalyseExecutor getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  public Executor getExecutor() {
+    return pool;
+  }
+
+  /**
+   * Executor for the I/O threads of the Neo4j-Driver and the HTTP server, which never
+   * runs a task on the caller. If the queue is full, the task is deferred instead.
+   *
+   * @return executor of the same pool
+   */
+  public Executor getHandoffExecutor() {
+    return handoff;
+  }
+
+  /**
+   * Run the action for every item, split into one chunk per thread.
+   * The caller works on the chunks as well and returns after all items
+   * have been processed. Chunks which are still queued, when the caller
+   * has run out of work, are taken over by the caller, so nested calls
+   * from a thread of this executor cannot deadlock.
+   *
+   * @param items  : items to process
+   * @param action : action for every item
+   * @param <T>    : type of the items
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void forEach(Collection<T> items, Consumer<? super T> action) {
+    Object[] array = items.toArray();
+    forEachIndex(array.length, i -> action.accept((T) array[i]));
+  }
+
+  /**
+   * Map every item in parallel, like {@link #forEach(Collection, Consumer)}.
+   * The results are returned in the order of the items, independent of the
+   * order in which they have been computed.
+   *
+   * @param items  : items to map
+   * @param mapper : function for every item, which must not change shared state
+   * @param <T>    : type of the items
+   * @param <R>    : type of the results
+   * @return results in the order of the items
+   */
+  @SuppressWarnings("unchecked")
+  public <T, R> List<R> map(Collection<T> items, Function<? super T, ? extends R> mapper) {
+    Object[] array = items.toArray();
+    Object[] results = new Object[array.length];
+    forEachIndex(array.length, i -> results[i] = mapper.apply((T) array[i]));
+    return (List<R>) Arrays.asList(results);
+  }
+
+  private void forEachIndex(int length, IntConsumer action) {
+    int chunks = Math.min(pool.getMaximumPoolSize(), length);
+    if (chunks <= 1) {
+      run(0, length, action);
+      return;
+    }
+
+    int chunkSize = (length + chunks - 1) / chunks;
+    AtomicInteger next = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(chunks);
+    AtomicReference<Throwable> error = new AtomicReference<>();
+
+    Runnable worker = () -> {
+      int chunk;
+      while ((chunk = next.getAndIncrement()) < chunks) {
+        try {
+          int from = chunk * chunkSize;
+          run(from, Math.min(length, from + chunkSize), action);
+        } catch (Throwable e) {
+          error.compareAndSet(null, e);
+        } finally {
+          done.countDown();
+        }
+      }
+    };
+
+    for (int i = 1; i < chunks; i++) {
+      pool.execute(worker);
+    }
+    worker.run();
+
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the analysis", e);
+    }
+    rethrow(error.get());
+  }
+
+  private static void run(int from, int to, IntConsumer action) {
+    for (int i = from; i < to; i++) {
+      action.accept(i);
+    }
+  }
+
+  private static void rethrow(Throwable error) {
+    if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    } else if (error instanceof Error) {
+      throw (Error) error;
+    } else if (error != null) {
+      throw new IllegalStateException(error);
+    }
+  }
+
+  /**
+   * Saturation of the executor.
+   *
+   * @return statistics as JSON
+   */
+  public JSONObject getStatistics() {
+    return new JSONObject()
+        .put("virtualThreads", virtualThreads)
+        .put("maxPoolSize", pool.getMaximumPoolSize())
+        .put("poolSize", pool.getPoolSize())
+        .put("largestPoolSize", pool.getLargestPoolSize())
+        .put("activeThreads", pool.getActiveCount())
+        .put("queueSize", queueSize)
+        .put("queuedTasks", pool.getQueue().size())
+        .put("completedTasks", pool.getCompletedTaskCount())
+        .put("callerRuns", callerRuns.get())
+        .put("deferredTasks", deferred.get());
+  }
+
+  @PreDestroy
+  public void close() {
+    pool.shutdown();
+  }
+
+  private static final class Handoff implements Runnable {
+    private final Runnable task;
+
+    private Handoff(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      task.run();
+    }
+  }
+
+  private static class PlatformThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "analyse-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static class DefaultHolder {
+    private static final AnalyseExecutor INSTANCE = create();
+
+    private static AnalyseExecutor create() {
+      AnalyseExecutor executor = new AnalyseExecutor();
+      Runtime.getRuntime().addShutdownHook(new Thread(executor::close, "analyse-shutdown"));
+      return executor;
+    }
+  }
+}
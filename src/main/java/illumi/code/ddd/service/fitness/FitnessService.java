@@ -5,7 +5,7 @@ import org.json.JSONArray;
 
 public interface FitnessService {
 
-  void setStructure(DDDStructure structure);
+  void evaluateStructure(DDDStructure structure);
 
-  JSONArray getStructureWithFitness();
+  JSONArray getStructureWithFitness(DDDStructure structure);
 }
@@ -2,13 +2,13 @@ package illumi.code.ddd.service.fitness.impl;
 
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
-import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Field;
 import illumi.code.ddd.model.artifacts.Interface;
 import illumi.code.ddd.model.artifacts.Method;
 import illumi.code.ddd.model.fitness.DDDFitness;
 import illumi.code.ddd.model.fitness.DDDIssueType;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,7 +80,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateEntity() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:ENTITY:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:ENTITY:{}", artifact.getName());
 
     evaluatePath(String.format(DOMAIN, artifact.getDomain()),
         String.format("The Entity '%s' is not placed at 'domain.%s.model'",
@@ -95,16 +95,7 @@ public class ClassFitnessService {
 
   private void evaluateSuperClass(Class item) {
     if (item != null) {
-      boolean containsId = false;
-
-      for (Field field : item.getFields()) {
-        if (Field.isId(field)) {
-          containsId = true;
-          break;
-        }
-      }
-
-      if (containsId) {
+      if (item.getFeatures().hasIdField()) {
         fitness.addSuccessfulCriteria(DDDIssueType.CRITICAL);
       } else if (item.getSuperClass() == null) {
         fitness.addFailedCriteria(DDDIssueType.CRITICAL,
@@ -120,7 +111,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateValueObject() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:VALUE_OBJECT:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:VALUE_OBJECT:{}", artifact.getName());
 
     evaluatePath(String.format(DOMAIN, artifact.getDomain()),
         String.format("The Value Object '%s' is not placed at 'domain.%s.model'",
@@ -134,26 +125,17 @@ public class ClassFitnessService {
   }
 
   private void evaluateAggregateRoot() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:AGGREGATE_ROOT:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:AGGREGATE_ROOT:{}", artifact.getName());
     evaluateEntity();
 
     evaluateDomainStructure();
   }
 
   private void evaluateDomainStructure() {
-    boolean repoAvailable = false;
-    boolean factoryAvailable = false;
-    boolean serviceAvailable = false;
-
-    for (Artifact tmpArtifact : structure.getAllArtifacts()) {
-      if (isAggregateRootRepository(tmpArtifact)) {
-        repoAvailable = true;
-      } else if (isAggregateRootFactory(tmpArtifact)) {
-        factoryAvailable = true;
-      } else if (isAggregateRootService(tmpArtifact)) {
-        serviceAvailable = true;
-      }
-    }
+    String name = artifact.getLowerName();
+    boolean repoAvailable = structure.anyNameContains(DDDType.REPOSITORY, name);
+    boolean factoryAvailable = structure.anyNameContains(DDDType.FACTORY, name);
+    boolean serviceAvailable = structure.anyNameContains(DDDType.SERVICE, name);
 
     fitness.addIssue(repoAvailable, DDDIssueType.MAJOR,
         String.format("No repository of the aggregate root '%s' is available", artifact.getName()));
@@ -165,23 +147,8 @@ public class ClassFitnessService {
         String.format("No service of the aggregate root '%s' is available", artifact.getName()));
   }
 
-  private boolean isAggregateRootRepository(Artifact artifact) {
-    return artifact.isTypeOf(DDDType.REPOSITORY)
-        && artifact.getLowerName().contains(this.artifact.getLowerName());
-  }
-
-  private boolean isAggregateRootFactory(Artifact artifact) {
-    return artifact.isTypeOf(DDDType.FACTORY)
-        && artifact.getLowerName().contains(this.artifact.getLowerName());
-  }
-
-  private boolean isAggregateRootService(Artifact artifact) {
-    return artifact.isTypeOf(DDDType.SERVICE)
-        && artifact.getLowerName().contains(this.artifact.getLowerName());
-  }
-
   private void evaluateDomainEvent() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:DOMAIN_EVENT:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:DOMAIN_EVENT:{}", artifact.getName());
 
     evaluatePath(String.format(DOMAIN, artifact.getDomain()),
         String.format("The Domain Event '%s' is not placed at 'domain.%s.model'",
@@ -192,7 +159,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateRepository() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:REPOSITORY:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:REPOSITORY:{}", artifact.getName());
     evaluateRepositoryName();
 
     evaluatePath(String.format(DOMAIN + "impl.", artifact.getDomain()),
@@ -224,7 +191,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateFactory() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:FACTORY:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:FACTORY:{}", artifact.getName());
 
     evaluateFactoryName();
 
@@ -260,7 +227,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateService() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:SERVICE:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:SERVICE:{}", artifact.getName());
 
     evaluatePath("application." + artifact.getDomain() + ".",
         String.format("The service '%s' should be placed at 'application.%s'",
@@ -269,7 +236,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateApplicationService() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:APPLICATION_SERVICE:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:APPLICATION_SERVICE:{}", artifact.getName());
 
     evaluateName();
 
@@ -285,7 +252,7 @@ public class ClassFitnessService {
   }
 
   private void evaluateInfrastructure() {
-    LOGGER.info("[EVALUATE] - CLASS - DDD:INFRASTRUCTURE:{}",
+    LOGGER.trace("[EVALUATE] - CLASS - DDD:INFRASTRUCTURE:{}",
         artifact.getName());
 
     evaluatePath("infrastructure.",
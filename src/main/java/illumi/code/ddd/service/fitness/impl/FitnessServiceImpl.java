@@ -1,8 +1,19 @@
 package illumi.code.ddd.service.fitness.impl;
 
+import illumi.code.ddd.model.AnalysisProgress;
 import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Annotation;
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.fitness.DDDFitness;
+import illumi.code.ddd.service.executor.AnalyseExecutor;
 import illumi.code.ddd.service.fitness.FitnessService;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
+
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -14,53 +25,109 @@ public class FitnessServiceImpl implements FitnessService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FitnessServiceImpl.class);
 
-  private DDDStructure structure;
+  private static final String PHASE_FITNESS = "fitness";
+  private static final String PHASE_MODULES = "fitness.modules";
+  private static final String PHASE_CLASSES = "fitness.classes";
+  private static final String PHASE_INTERFACES = "fitness.interfaces";
+  private static final String PHASE_ANNOTATIONS = "fitness.annotations";
+
+  private AnalyseExecutor executor;
+
+  private AnalysisMetrics metrics;
+
+  private ProgressReporter reporter;
+
+  public FitnessServiceImpl() {
+    this(AnalyseExecutor.getDefault(), AnalysisMetrics.getDefault(),
+        ProgressReporter.getDefault());
+  }
 
-  public @Inject FitnessServiceImpl() {
-    // @Inject is needed
+  /**
+   * Constructor of FitnessServiceImpl.
+   *
+   * @param executor : executor of the evaluation
+   * @param metrics  : timers of the phases
+   * @param reporter : reporter of the progress
+   */
+  @Inject
+  public FitnessServiceImpl(AnalyseExecutor executor, AnalysisMetrics metrics,
+                            ProgressReporter reporter) {
+    this.executor = executor;
+    this.metrics = metrics;
+    this.reporter = reporter;
   }
 
   @Override
-  public void setStructure(DDDStructure structure) {
-    this.structure = structure;
+  public void evaluateStructure(DDDStructure structure) {
+    AnalysisProgress progress = reporter.continueOrStart(structure.getRoot());
+    metrics.record(PHASE_FITNESS, progress.getPath(), () -> {
+      record(progress, PHASE_MODULES, () -> evaluateModules(structure, progress));
+      record(progress, PHASE_CLASSES, () -> evaluateClasses(structure, progress));
+      record(progress, PHASE_INTERFACES, () -> evaluateInterfaces(structure, progress));
+      record(progress, PHASE_ANNOTATIONS, () -> evaluateAnnotations(structure, progress));
+    });
+  }
+
+  private void record(AnalysisProgress progress, String phase, Runnable action) {
+    progress.setPhase(phase);
+    metrics.record(phase, progress.getPath(), action);
   }
 
   @Override
-  public JSONArray getStructureWithFitness() {
-    evaluateModules();
-    evaluateClasses();
-    evaluateInterfaces();
-    evaluateAnnotations();
+  public JSONArray getStructureWithFitness(DDDStructure structure) {
+    evaluateStructure(structure);
     return structure.getJSON();
   }
 
-  private void evaluateModules() {
-    structure.getPackages().stream()
-        .parallel()
-        .forEach(module -> {
-          LOGGER.info("[EVALUATE] - MODULE - DDD:MODULE:{}", module.getName());
-          module.evaluate(structure);
-        });
+  /*
+   * Every phase maps the artifacts to their fitness in parallel, without changing
+   * shared state, and attaches the results afterwards in the order of the structure.
+   */
+  private void evaluateModules(DDDStructure structure, AnalysisProgress progress) {
+    List<Package> modules = structure.getPackages();
+    List<DDDFitness> results = executor.map(modules, module -> {
+      LOGGER.trace("[EVALUATE] - MODULE - DDD:MODULE:{}", module.getName());
+      DDDFitness fitness = new PackageFitnessService(module, structure).evaluate();
+      progress.count("evaluate.module");
+      return fitness;
+    });
+    merge(modules, results);
+  }
+
+  private void evaluateClasses(DDDStructure structure, AnalysisProgress progress) {
+    List<Class> classes = structure.getClasses();
+    List<DDDFitness> results = executor.map(classes, item -> {
+      DDDFitness fitness = new ClassFitnessService(item, structure).evaluate();
+      progress.count("evaluate.class");
+      return fitness;
+    });
+    merge(classes, results);
   }
 
-  private void evaluateClasses() {
-    structure.getClasses().stream()
-        .parallel()
-        .forEach(item -> item.evaluate(structure));
+  private void evaluateInterfaces(DDDStructure structure, AnalysisProgress progress) {
+    List<Interface> interfaces = structure.getInterfaces();
+    List<DDDFitness> results = executor.map(interfaces, item -> {
+      DDDFitness fitness = new InterfaceFitnessService(item).evaluate();
+      progress.count("evaluate.interface");
+      return fitness;
+    });
+    merge(interfaces, results);
   }
 
-  private void evaluateInterfaces() {
-    structure.getInterfaces().stream()
-        .parallel()
-        .forEach(Interface::evaluate);
+  private void evaluateAnnotations(DDDStructure structure, AnalysisProgress progress) {
+    List<Annotation> annotations = structure.getAnnotations();
+    List<DDDFitness> results = executor.map(annotations, item -> {
+      LOGGER.trace("[EVALUATE] - ANNOTATION - DDD:INFRASTRUCTURE:{}", item.getName());
+      DDDFitness fitness = new AnnotationFitnessService(item).evaluate();
+      progress.count("evaluate.annotation");
+      return fitness;
+    });
+    merge(annotations, results);
   }
 
-  private void evaluateAnnotations() {
-    structure.getAnnotations().stream()
-        .parallel()
-        .forEach(item -> {
-          LOGGER.info("[EVALUATE] - ANNOTATION - DDD:INFRASTRUCTURE:{}", item.getName());
-          item.evaluate();
-        });
+  private static void merge(List<? extends Artifact> artifacts, List<DDDFitness> results) {
+    for (int i = 0; i < artifacts.size(); i++) {
+      artifacts.get(i).setFitness(results.get(i));
+    }
   }
 }
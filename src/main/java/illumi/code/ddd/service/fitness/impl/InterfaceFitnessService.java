@@ -37,13 +37,13 @@ public class InterfaceFitnessService {
         break;
       case SERVICE:
       default:
-        LOGGER.info("[EVALUATE] - INTERFACE - DDD:SERVICE:{}", artifact.getName());
+        LOGGER.trace("[EVALUATE] - INTERFACE - DDD:SERVICE:{}", artifact.getName());
     }
     return fitness;
   }
 
   private void evaluateRepository() {
-    LOGGER.info("[EVALUATE] - INTERFACE - DDD:REPOSITORY:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - INTERFACE - DDD:REPOSITORY:{}", artifact.getName());
 
     evaluateRepositoryName();
 
@@ -68,7 +68,7 @@ public class InterfaceFitnessService {
   }
 
   private void evaluateFactory() {
-    LOGGER.info("[EVALUATE] - INTERFACE - DDD:FACTORY:{}", artifact.getName());
+    LOGGER.trace("[EVALUATE] - INTERFACE - DDD:FACTORY:{}", artifact.getName());
 
     evaluateFactoryName();
 
@@ -41,7 +41,7 @@ public class PackageFitnessService {
   }
 
   private boolean isDomainModule() {
-    return structure.getDomains().contains(module.getName())
+    return structure.containsDomain(module.getName())
         && !module.getPath().contains("application")
         && !module.getPath().contains("infrastructure");
   }
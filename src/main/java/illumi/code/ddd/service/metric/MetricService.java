@@ -5,7 +5,5 @@ import org.json.JSONObject;
 
 public interface MetricService {
 
-  void setStructure(DDDStructure structure);
-
-  JSONObject getMetric();
+  JSONObject getMetric(DDDStructure structure);
 }
@@ -38,8 +38,7 @@ public class DDDMetricService {
     LOGGER.info("[CALCULATE] - DDD - Fitness");
     DDDFitness fitness = new DDDFitness();
     allArtifacts.stream()
-        .parallel()
-        .forEachOrdered(artifact -> fitness.add(artifact.getDDDFitness()));
+        .forEach(artifact -> fitness.add(artifact.getDDDFitness()));
     return fitness.summary();
   }
 
@@ -64,8 +63,7 @@ public class DDDMetricService {
     LOGGER.info("[CALCULATE] - DDD - Hotspot");
     ArrayList<JSONObject> json = new ArrayList<>();
     allArtifacts.stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (!artifact.getDDDFitness().getIssues().isEmpty()
               || artifact.getFitness() < 100.0) {
             json.add(artifact.toJSONSummary());
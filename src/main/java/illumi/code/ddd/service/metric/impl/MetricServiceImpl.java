@@ -2,31 +2,38 @@ package illumi.code.ddd.service.metric.impl;
 
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.service.metric.MetricService;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
 
 import javax.inject.Inject;
 import org.json.JSONObject;
 
 public class MetricServiceImpl implements MetricService {
 
-  private DDDStructure structure;
+  private static final String PHASE_DDD = "metric.ddd";
+  private static final String PHASE_OOD = "metric.ood";
 
-  public @Inject MetricServiceImpl() {
-    // Needed for @Inject
+  private AnalysisMetrics metrics;
+
+  public MetricServiceImpl() {
+    this(AnalysisMetrics.getDefault());
   }
 
-  @Override
-  public void setStructure(DDDStructure structure) {
-    this.structure = structure;
+  public @Inject MetricServiceImpl(AnalysisMetrics metrics) {
+    this.metrics = metrics;
   }
 
   @Override
-  public JSONObject getMetric() {
+  public JSONObject getMetric(DDDStructure structure) {
+    String path = structure.getRoot();
+
     DDDMetricService fitnessMetric = new DDDMetricService(structure.getAllArtifacts());
+    JSONObject ddd = metrics.record(PHASE_DDD, path, fitnessMetric::calculate);
 
-    OODMetricService oodMetric = new OODMetricService(structure.getPackages());
+    OODMetricService oodMetric = new OODMetricService(structure.getDependencyGraph());
+    JSONObject ood = metrics.record(PHASE_OOD, path, oodMetric::calculate);
 
     return new JSONObject()
-        .put("DDD", fitnessMetric.calculate())
-        .put("OOD", oodMetric.calculate());
+        .put("DDD", ddd)
+        .put("OOD", ood);
   }
 }
@@ -1,10 +1,9 @@
 package illumi.code.ddd.service.metric.impl;
 
-import illumi.code.ddd.model.artifacts.Artifact;
-import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.File;
 import illumi.code.ddd.model.artifacts.Interface;
 import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.index.DependencyGraph;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,12 +17,26 @@ public class OODMetricService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OODMetricService.class);
 
-  private ArrayList<Package> packages;
+  private List<Package> packages;
+  private DependencyGraph graph;
 
   private ArrayList<Double> distances;
 
+  /**
+   * Constructor of OODMetricService.
+   * @param packages : packages of the system
+   */
   public OODMetricService(List<Package> packages) {
-    this.packages = (ArrayList<Package>) packages;
+    this(new DependencyGraph(packages));
+  }
+
+  /**
+   * Constructor of OODMetricService.
+   * @param graph : dependency graph of the packages of the system
+   */
+  public OODMetricService(DependencyGraph graph) {
+    this.packages = graph.getPackages();
+    this.graph = graph;
     this.distances = new ArrayList<>();
   }
 
@@ -41,9 +54,9 @@ public class OODMetricService {
     LOGGER.info("[CALCULATE] - OOD - Module");
     JSONObject result = new JSONObject();
 
-    packages.stream()
-        .parallel()
-        .forEachOrdered(module -> result.put(module.getPath(), analyseModule(module)));
+    for (int i = 0; i < packages.size(); i++) {
+      result.put(packages.get(i).getPath(), analyseModule(packages.get(i), i));
+    }
 
     return result.isEmpty() ? null : result;
   }
@@ -64,9 +77,9 @@ public class OODMetricService {
     return null;
   }
 
-  private JSONObject analyseModule(Package module) {
+  private JSONObject analyseModule(Package module, int index) {
     Double abstractness = calculateAbstractness(module);
-    Double instability = calculateInstability(module);
+    Double instability = calculateInstability(index);
     Double distance = calculateDistance(abstractness, instability);
 
     if (abstractness != null) {
@@ -104,9 +117,9 @@ public class OODMetricService {
         .filter(artifact -> artifact instanceof File).count();
   }
 
-  private Double calculateInstability(Package module) {
-    long numberOfAfferentCouplings = countAfferentCouplings(module);
-    long numberOfEfferentCouplings = countEfferentCouplings(module);
+  private Double calculateInstability(int index) {
+    long numberOfAfferentCouplings = graph.countAfferentCouplings(index);
+    long numberOfEfferentCouplings = graph.countEfferentCouplings(index);
     if (numberOfAfferentCouplings > 0
         || numberOfEfferentCouplings > 0) {
       return (double) numberOfEfferentCouplings
@@ -115,62 +128,6 @@ public class OODMetricService {
     return null;
   }
 
-  private long countAfferentCouplings(Package module) {
-    long ctr = 0;
-    for (Package item : packages) {
-      if (item != module) {
-        ctr += item.getContains().stream()
-            .filter(artifact -> artifact instanceof File
-                && dependsOnModule(module, (File) artifact)).count();
-      }
-    }
-    return ctr;
-  }
-
-  private boolean dependsOnModule(Package module, File artifact) {
-
-    for (Interface implInterface : artifact.getImplInterfaces()) {
-      if (module.getContains().contains(implInterface)) {
-        return true;
-      }
-    }
-    if (artifact instanceof Class) {
-      return dependsOnModule(module, (Class) artifact);
-    }
-    return false;
-  }
-
-  private boolean dependsOnModule(Package module, Class artifact) {
-    if (artifact.getSuperClass() != null
-        && module.getContains().contains(artifact.getSuperClass())) {
-      return true;
-    }
-
-    for (String dependency : artifact.getDependencies()) {
-      if (dependency.contains(String.format(".%s.", module.getName()))) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private long countEfferentCouplings(Package module) {
-    long ctr = 0;
-
-    for (Artifact artifact : module.getContains()) {
-      if (artifact instanceof File) {
-        for (Package item : packages) {
-          if (item != module && dependsOnModule(item, (File) artifact)) {
-            ctr++;
-            break;
-          }
-        }
-      }
-    }
-
-    return ctr;
-  }
-
   private Double calculateDistance(Double abstractness, Double instability) {
     if (abstractness != null && instability != null) {
       double distance = Math.abs(abstractness + instability - 1.0);
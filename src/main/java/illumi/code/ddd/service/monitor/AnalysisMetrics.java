@@ -0,0 +1,142 @@
+package illumi.code.ddd.service.monitor;
+
+import illumi.code.ddd.model.DDDStructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Timers of the phases of the analysis, fitness, metric and refactoring and
+ * counters of the Neo4j-queries, their rows and the analysed artifacts.
+ * All meters are labelled with the fully qualified name of the system module.
+ */
+@Singleton
+public class AnalysisMetrics {
+
+  static final String PHASE = "ddd.phase";
+  static final String QUERIES = "ddd.neo4j.queries";
+  static final String ROWS = "ddd.neo4j.rows";
+  static final String ARTIFACTS = "ddd.artifacts";
+
+  static final String TAG_PHASE = "phase";
+  static final String TAG_PATH = "path";
+  static final String TAG_TYPE = "type";
+
+  static final String UNKNOWN_PATH = "unknown";
+
+  private final MeterRegistry registry;
+
+  /**
+   * Constructor of AnalysisMetrics.
+   *
+   * @param registry : registry of the meters
+   */
+  @Inject
+  public AnalysisMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Metrics on the global registry, which discards all measurements
+   * as long as no registry has been added to it.
+   *
+   * @return metrics, which are shared by all services created without injection
+   */
+  public static AnalysisMetrics getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  public MeterRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Run a phase and record its duration.
+   *
+   * @param phase  : name of the phase
+   * @param path   : fully qualified name of the system module
+   * @param action : phase
+   */
+  public void record(String phase, String path, Runnable action) {
+    timer(phase, path).record(action);
+  }
+
+  /**
+   * Run a phase and record its duration.
+   *
+   * @param phase  : name of the phase
+   * @param path   : fully qualified name of the system module
+   * @param action : phase
+   * @param <T>    type of the result
+   * @return result of the phase
+   */
+  public <T> T record(String phase, String path, Supplier<T> action) {
+    return timer(phase, path).record(action);
+  }
+
+  /**
+   * Start an asynchronous phase and record its duration, when the future is completed.
+   *
+   * @param phase  : name of the phase
+   * @param path   : fully qualified name of the system module
+   * @param action : start of the phase
+   * @param <T>    type of the result
+   * @return future of the phase
+   */
+  public <T> CompletableFuture<T> recordAsync(String phase, String path,
+                                              Supplier<CompletableFuture<T>> action) {
+    Timer.Sample sample = start();
+    return action.get().whenComplete((result, error) -> stop(sample, phase, path));
+  }
+
+  public Timer.Sample start() {
+    return Timer.start(registry);
+  }
+
+  public void stop(Timer.Sample sample, String phase, String path) {
+    sample.stop(timer(phase, path));
+  }
+
+  public void countQuery(String path) {
+    registry.counter(QUERIES, TAG_PATH, tag(path)).increment();
+  }
+
+  public void countRows(String path, long rows) {
+    registry.counter(ROWS, TAG_PATH, tag(path)).increment(rows);
+  }
+
+  /**
+   * Count the packages, classes, interfaces, enums and annotations of an analysed structure.
+   *
+   * @param structure : analysed structure of the system
+   */
+  public void countArtifacts(DDDStructure structure) {
+    countArtifacts(structure.getRoot(), "package", structure.getPackages().size());
+    countArtifacts(structure.getRoot(), "class", structure.getClasses().size());
+    countArtifacts(structure.getRoot(), "interface", structure.getInterfaces().size());
+    countArtifacts(structure.getRoot(), "enum", structure.getEnums().size());
+    countArtifacts(structure.getRoot(), "annotation", structure.getAnnotations().size());
+  }
+
+  private void countArtifacts(String path, String type, int count) {
+    registry.counter(ARTIFACTS, TAG_PATH, tag(path), TAG_TYPE, type).increment(count);
+  }
+
+  private Timer timer(String phase, String path) {
+    return registry.timer(PHASE, TAG_PHASE, phase, TAG_PATH, tag(path));
+  }
+
+  private static String tag(String path) {
+    return path != null ? path : UNKNOWN_PATH;
+  }
+
+  private static class DefaultHolder {
+    private static final AnalysisMetrics INSTANCE = new AnalysisMetrics(Metrics.globalRegistry);
+  }
+}
@@ -0,0 +1,118 @@
+package illumi.code.ddd.service.monitor;
+
+import illumi.code.ddd.model.AnalysisProgress;
+import illumi.code.ddd.service.cache.ExpiringCache;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Progress of the latest analysis or refactoring per system module.
+ * Instead of a log entry per artifact, a summary of the running progresses
+ * is logged periodically and after a progress has been finished.
+ */
+@Singleton
+public class ProgressReporter {
+
+  static final int DEFAULT_MAX_SIZE = 64;
+  static final long DEFAULT_TTL_MINUTES = 60L;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProgressReporter.class);
+
+  private final ExpiringCache<String, AnalysisProgress> progresses;
+
+  /**
+   * Constructor of ProgressReporter.
+   *
+   * @param maxSize    : maximal number of stored progresses
+   * @param ttlMinutes : minutes until a progress expires
+   */
+  @Inject
+  public ProgressReporter(@Value("${analyse.progress.max-size:64}") int maxSize,
+                          @Value("${analyse.progress.ttl-minutes:60}") long ttlMinutes) {
+    this.progresses = new ExpiringCache<>(maxSize, ttlMinutes, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Reporter, which is used by all services created without injection.
+   *
+   * @return shared reporter
+   */
+  public static ProgressReporter getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Start a new progress, which replaces the last progress of the system module.
+   *
+   * @param path : fully qualified name of the system module
+   * @return progress
+   */
+  public AnalysisProgress start(String path) {
+    AnalysisProgress progress = new AnalysisProgress(path);
+    if (path != null) {
+      progresses.put(path, progress);
+    }
+    return progress;
+  }
+
+  /**
+   * Progress of the system module, which is continued, as long as it has not been finished.
+   * Otherwise a new progress is started.
+   *
+   * @param path : fully qualified name of the system module
+   * @return progress
+   */
+  public AnalysisProgress continueOrStart(String path) {
+    AnalysisProgress progress = get(path);
+    return progress != null && !progress.isFinished() ? progress : start(path);
+  }
+
+  public AnalysisProgress get(String path) {
+    return path != null ? progresses.get(path) : null;
+  }
+
+  public List<AnalysisProgress> getAll() {
+    return progresses.values();
+  }
+
+  /**
+   * Finish the progress of the system module and log its summary.
+   *
+   * @param path : fully qualified name of the system module
+   */
+  public void finish(String path) {
+    AnalysisProgress progress = get(path);
+    if (progress != null && !progress.isFinished()) {
+      progress.setPhase("finished");
+      progress.finish();
+      progress.report();
+      LOGGER.info("[PROGRESS] - {} - {}", path, progress);
+    }
+  }
+
+  /**
+   * Log the summary of all running progresses, which have changed since the last summary.
+   */
+  @Scheduled(fixedDelay = "${analyse.progress.interval:10s}")
+  public void report() {
+    for (AnalysisProgress progress : getAll()) {
+      if (!progress.isFinished() && progress.report()) {
+        LOGGER.info("[PROGRESS] - {} - {}", progress.getPath(), progress);
+      }
+    }
+  }
+
+  private static class DefaultHolder {
+    private static final ProgressReporter INSTANCE =
+        new ProgressReporter(DEFAULT_MAX_SIZE, DEFAULT_TTL_MINUTES);
+  }
+}
@@ -0,0 +1,185 @@
+package illumi.code.ddd.service.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Value;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.neo4j.driver.v1.summary.ProfiledPlan;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in profiler of the Cypher queries of the analysis.
+ * If it is enabled, the latency and the number of rows are recorded per query,
+ * a sample of the executions is run with PROFILE to record the db hits and
+ * every query, which is slower than the threshold, is logged with its parameters.
+ */
+@Singleton
+public class QueryProfiler {
+
+  static final String LATENCY = "ddd.neo4j.query";
+  static final String ROWS = "ddd.neo4j.query.rows";
+  static final String DB_HITS = "ddd.neo4j.query.db.hits";
+
+  static final String TAG_QUERY = "query";
+
+  static final long DEFAULT_SLOW_QUERY_MS = 1000L;
+
+  private static final String PROFILE = "PROFILE ";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryProfiler.class);
+
+  private final boolean enabled;
+  private final double sampleRate;
+  private final long slowQueryMillis;
+  private final MeterRegistry registry;
+
+  /**
+   * Constructor of QueryProfiler.
+   *
+   * @param enabled         : profile the queries
+   * @param sampleRate      : part of the executions between 0 and 1, which are run with PROFILE
+   * @param slowQueryMillis : latency in ms, from which a query is logged
+   * @param metrics         : registry of the latencies, rows and db hits
+   */
+  @Inject
+  public QueryProfiler(@Value("${analyse.profiler.enabled:false}") boolean enabled,
+                       @Value("${analyse.profiler.sample-rate:0.01}") double sampleRate,
+                       @Value("${analyse.profiler.slow-query-ms:1000}") long slowQueryMillis,
+                       AnalysisMetrics metrics) {
+    this.enabled = enabled;
+    this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+    this.slowQueryMillis = slowQueryMillis;
+    this.registry = metrics.getRegistry();
+  }
+
+  /**
+   * Disabled profiler, which is used by all services created without injection.
+   *
+   * @return disabled profiler
+   */
+  public static QueryProfiler getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Start the execution of a query.
+   *
+   * @param name       : name of the query, which is used as label of its meters
+   * @param query      : Cypher query
+   * @param parameters : parameters of the query
+   * @return execution, whose statement has to be run
+   */
+  public Execution start(String name, String query, org.neo4j.driver.v1.Value parameters) {
+    boolean profiled = enabled && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    return new Execution(name, query, parameters, profiled);
+  }
+
+  private static long getDbHits(ProfiledPlan plan) {
+    long dbHits = plan.dbHits();
+    for (ProfiledPlan child : plan.children()) {
+      dbHits += getDbHits(child);
+    }
+    return dbHits;
+  }
+
+  /**
+   * Execution of a query, whose records are passed in order and never concurrently.
+   */
+  public final class Execution {
+    private final String name;
+    private final String query;
+    private final org.neo4j.driver.v1.Value parameters;
+    private final boolean profiled;
+    private final long start;
+
+    private long rows;
+
+    private Execution(String name, String query, org.neo4j.driver.v1.Value parameters,
+                      boolean profiled) {
+      this.name = name;
+      this.query = query;
+      this.parameters = parameters;
+      this.profiled = profiled;
+      this.start = System.nanoTime();
+    }
+
+    /**
+     * Statement to run, which is the query prefixed with PROFILE, if this execution is sampled.
+     *
+     * @return Cypher statement
+     */
+    public String getStatement() {
+      return profiled ? PROFILE + query : query;
+    }
+
+    public boolean isProfiled() {
+      return profiled;
+    }
+
+    public void countRow() {
+      rows++;
+    }
+
+    public void countRows(long count) {
+      rows += count;
+    }
+
+    public long getRows() {
+      return rows;
+    }
+
+    /**
+     * Record the latency, rows and db hits of the execution.
+     *
+     * @param summary : summary of the result or null, if the query has failed
+     */
+    public void finish(ResultSummary summary) {
+      if (!enabled) {
+        return;
+      }
+      long nanos = System.nanoTime() - start;
+      long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+
+      Timer.builder(LATENCY)
+          .tag(TAG_QUERY, name)
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(nanos, TimeUnit.NANOSECONDS);
+      DistributionSummary.builder(ROWS)
+          .tag(TAG_QUERY, name)
+          .register(registry)
+          .record(rows);
+
+      if (summary != null && summary.hasProfile()) {
+        long dbHits = getDbHits(summary.profile());
+        DistributionSummary.builder(DB_HITS)
+            .tag(TAG_QUERY, name)
+            .register(registry)
+            .record(dbHits);
+        LOGGER.info("[PROFILE] - {} - {} db hits, {} rows, {}ms", name, dbHits, rows, millis);
+      }
+
+      if (millis >= slowQueryMillis) {
+        LOGGER.warn("[SLOW QUERY] - {} - {}ms, {} rows - {} - {}",
+            name, millis, rows, query, parameters != null ? parameters.asMap() : null);
+      }
+    }
+  }
+
+  private static class DefaultHolder {
+    private static final QueryProfiler INSTANCE =
+        new QueryProfiler(false, 0.0, DEFAULT_SLOW_QUERY_MS, AnalysisMetrics.getDefault());
+  }
+}
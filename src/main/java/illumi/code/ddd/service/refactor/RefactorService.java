@@ -4,7 +4,5 @@ import illumi.code.ddd.model.DDDStructure;
 
 public interface RefactorService {
 
-  void setOldStructure(DDDStructure oldStructure);
-
-  DDDStructure refactor();
+  DDDStructure refactor(DDDStructure oldStructure);
 }
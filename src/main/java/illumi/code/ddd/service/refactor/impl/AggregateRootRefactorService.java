@@ -26,8 +26,7 @@ public class AggregateRootRefactorService extends DefaultRefactorService {
     Package impl = (Package) model.getContains().get(0);
 
     new ArrayList<>(model.getContains()).stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (artifact instanceof Class
               && artifact.isTypeOf(DDDType.AGGREGATE_ROOT)) {
             refactorAggregateRoot(model, impl, (Class) artifact);
@@ -42,7 +41,7 @@ public class AggregateRootRefactorService extends DefaultRefactorService {
       Class repositoryImpl = createImpl(impl, repository, DDDType.REPOSITORY);
       impl.addContains(repositoryImpl);
       getRefactorData().getNewStructure().addClass(repositoryImpl);
-      LOGGER.info(LOG_CREATE, REPOSITORY, repositoryImpl.getPath());
+      LOGGER.trace(LOG_CREATE, REPOSITORY, repositoryImpl.getPath());
     }
 
     Interface factory = getInterface(DDDType.FACTORY, model, root);
@@ -52,7 +51,7 @@ public class AggregateRootRefactorService extends DefaultRefactorService {
       factoryImpl.addField(new Field("private", "repository", repository.getPath()));
       impl.addContains(factoryImpl);
       getRefactorData().getNewStructure().addClass(factoryImpl);
-      LOGGER.info(LOG_CREATE, FACTORY, factoryImpl.getPath());
+      LOGGER.trace(LOG_CREATE, FACTORY, factoryImpl.getPath());
     }
   }
 
@@ -86,7 +85,7 @@ public class AggregateRootRefactorService extends DefaultRefactorService {
     model.addContains(repository);
     getRefactorData().getNewStructure().addInterface(repository);
 
-    LOGGER.info(LOG_CREATE, REPOSITORY, repository.getPath());
+    LOGGER.trace(LOG_CREATE, REPOSITORY, repository.getPath());
     return repository;
   }
 
@@ -103,7 +102,7 @@ public class AggregateRootRefactorService extends DefaultRefactorService {
     model.addContains(factory);
     getRefactorData().getNewStructure().addInterface(factory);
 
-    LOGGER.info(LOG_CREATE, FACTORY, factory.getPath());
+    LOGGER.trace(LOG_CREATE, FACTORY, factory.getPath());
     return factory;
   }
 }
@@ -6,11 +6,11 @@ import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Enum;
 import illumi.code.ddd.model.artifacts.Field;
-import illumi.code.ddd.model.artifacts.File;
 import illumi.code.ddd.model.artifacts.Interface;
 import illumi.code.ddd.model.artifacts.Package;
 
 import java.util.ArrayList;
+import java.util.List;
 
 @SuppressWarnings("checkstyle:OverloadMethodsDeclarationOrder")
 class AssignService {
@@ -32,8 +32,11 @@ class AssignService {
 
     cleanDomain();
 
+    RenamePlan plan = new RenamePlan();
     refactorPaths(refactorData.getNewStructure().getPath(),
-        (ArrayList<Artifact>) refactorData.getNewStructure().getStructure());
+        (ArrayList<Artifact>) refactorData.getNewStructure().getStructure(), plan);
+    plan.apply(refactorData.getNewStructure().getArtifacts());
+    refactorData.reindex();
     refactorDomains();
   }
 
@@ -102,29 +105,11 @@ class AssignService {
   }
 
   private Package getModule(String path) {
-    for (Package module : refactorData.getNewStructure().getPackages()) {
-      if (module.getPath().endsWith(path)) {
-        return module;
-      }
-    }
-    return null;
+    return refactorData.getModule(path);
   }
 
   private String getDomainOf(Artifact artifact) {
-    for (Class root : refactorData.getRoots()) {
-      if (isRootOf(root, artifact)) {
-        return root.getLowerName();
-      }
-    }
-    return null;
-  }
-
-  private boolean isRootOf(Class root, Artifact artifact) {
-    return artifact.getLowerName().contains(root.getLowerName())
-        || artifact.getLowerName().contains(root.getDomain())
-        || artifact.getPath().contains("." + root.getDomain() + ".")
-        || (artifact.getDomain() != null
-        && artifact.getDomain().equalsIgnoreCase(root.getDomain()));
+    return refactorData.getDomainOf(artifact);
   }
 
   private String dependsOn(Class artifact) {
@@ -152,14 +137,9 @@ class AssignService {
 
   private String dependsOnDependency(Class artifact) {
     for (String dependency : artifact.getDependencies()) {
-      for (Class item : refactorData.getOldStructure().getClasses()) {
-        if (item != artifact
-            && item.getPath().equalsIgnoreCase(dependency)) {
-          String domain = getDomainOf(item);
-          if (domain != null) {
-            return domain;
-          }
-        }
+      String domain = getDomainOfOther(artifact, refactorData.getClasses(dependency));
+      if (domain != null) {
+        return domain;
       }
     }
     return null;
@@ -167,13 +147,21 @@ class AssignService {
 
   private String dependsOnField(Class artifact) {
     for (Field field : artifact.getFields()) {
-      for (Class item : refactorData.getOldStructure().getClasses()) {
-        if (item != artifact
-            && field.getLowerName().contains(item.getLowerName())) {
-          String domain = getDomainOf(item);
-          if (domain != null) {
-            return domain;
-          }
+      String domain = getDomainOfOther(artifact,
+          refactorData.getClassesNamedIn(field.getLowerName()));
+      if (domain != null) {
+        return domain;
+      }
+    }
+    return null;
+  }
+
+  private String getDomainOfOther(Class artifact, List<Class> items) {
+    for (Class item : items) {
+      if (item != artifact) {
+        String domain = getDomainOf(item);
+        if (domain != null) {
+          return domain;
         }
       }
     }
@@ -211,42 +199,20 @@ class AssignService {
     }
   }
 
-  private void refactorPaths(String path, ArrayList<Artifact> structure) {
+  private void refactorPaths(String path, ArrayList<Artifact> structure, RenamePlan plan) {
     for (Artifact artifact : structure) {
       String oldPath = artifact.getPath();
       String newPath = path + artifact.getName();
       artifact.setPath(newPath);
       if (artifact instanceof Package) {
         refactorPaths(artifact.getPath() + ".",
-            (ArrayList<Artifact>) ((Package) artifact).getContains());
+            (ArrayList<Artifact>) ((Package) artifact).getContains(), plan);
       } else {
-        refactorDependencies(oldPath, newPath);
+        plan.add(oldPath, newPath);
       }
     }
   }
 
-  private void refactorDependencies(String oldPath, String newPath) {
-    for (Artifact artifact : refactorData.getNewStructure().getAllArtifacts()) {
-      if (artifact instanceof File) {
-        refactorFieldDependencies(oldPath, newPath, (File) artifact);
-        refactorMethodDependencies(oldPath, newPath, (File) artifact);
-      }
-    }
-  }
-
-  private void refactorFieldDependencies(String oldPath, String newPath, File artifact) {
-    artifact.getFields().stream()
-        .parallel()
-        .forEachOrdered(field -> field.setType(field.getType().replace(oldPath, newPath)));
-  }
-
-  private void refactorMethodDependencies(String oldPath, String newPath, File artifact) {
-    artifact.getMethods().stream()
-        .parallel()
-        .forEachOrdered(method ->
-            method.setSignature(method.getSignature().replace(oldPath, newPath)));
-  }
-
   private void refactorDomains() {
     for (String domain : refactorData.getNewStructure().getDomains()) {
       setDomain(domain, DOMAIN_PATH);
@@ -261,14 +227,12 @@ class AssignService {
     Package module = getModule(String.format(applicationPath, domain));
     if (module != null) {
       module.getContains().stream()
-          .parallel()
-          .forEachOrdered(item -> item.setDomain(domain));
+          .forEach(item -> item.setDomain(domain));
     }
   }
 
   private void cleanDomain() {
-    refactorData.getNewStructure().getAllArtifacts().stream()
-        .parallel()
-        .forEachOrdered(item -> item.setDomain(null));
+    refactorData.getNewStructure().getArtifacts()
+        .forEach(item -> item.setDomain(null));
   }
 }
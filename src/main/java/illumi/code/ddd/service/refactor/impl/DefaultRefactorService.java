@@ -38,8 +38,7 @@ public abstract class DefaultRefactorService implements ArtifactRefactorService
   @Override
   public void refactor() {
     refactorData.getDomainModule().getContains().stream()
-        .parallel()
-        .forEachOrdered(item -> {
+        .forEach(item -> {
           if (item instanceof Package) {
             if (!item.getName().equalsIgnoreCase("model")) {
               Package model = getModelOfDomain(item);
@@ -165,45 +164,45 @@ public abstract class DefaultRefactorService implements ArtifactRefactorService
 
   Method createMethod(String value, String name, String attribute) {
     String signature = String.format("%s %s(%s)", value, name, attribute);
-    LOGGER.info(LOG_CREATE, METHOD, signature);
+    LOGGER.trace(LOG_CREATE, METHOD, signature);
     return new Method(PUBLIC, name, signature);
   }
 
   Method createEquals() {
-    LOGGER.info(LOG_CREATE, METHOD, "java.lang.Boolean equals(Object)");
+    LOGGER.trace(LOG_CREATE, METHOD, "java.lang.Boolean equals(Object)");
     return new Method(PUBLIC, "equals", "java.lang.Boolean equals(Object)");
   }
 
   Method createHashCode() {
-    LOGGER.info(LOG_CREATE, METHOD, "java.lang.Integer hashCode()");
+    LOGGER.trace(LOG_CREATE, METHOD, "java.lang.Integer hashCode()");
     return new Method(PUBLIC, "hashCode", "java.lang.Integer hashCode()");
   }
 
   Method createGetter(Field field) {
     String name = String.format("get%s", modifyFirstChar(field.getName()));
     String signature = String.format("%s %s()", field.getType(), name);
-    LOGGER.info(LOG_CREATE, METHOD, signature);
+    LOGGER.trace(LOG_CREATE, METHOD, signature);
     return new Method(PUBLIC, name, signature);
   }
 
   Method createSetter(Field field) {
     String name = String.format("set%s", modifyFirstChar(field.getName()));
     String signature = String.format("void %s(%s)", name, field.getType());
-    LOGGER.info(LOG_CREATE, METHOD, signature);
+    LOGGER.trace(LOG_CREATE, METHOD, signature);
     return new Method(PUBLIC, name, signature);
   }
 
   Method createValueObjectGetter(Field field) {
     String name = field.getName();
     String signature = String.format("%s %s()", field.getType(), name);
-    LOGGER.info(LOG_CREATE, METHOD, signature);
+    LOGGER.trace(LOG_CREATE, METHOD, signature);
     return new Method(PUBLIC, name, signature);
   }
 
   Method createSideEffectFreeSetter(Field field) {
     String name = String.format("set%s", modifyFirstChar(field.getName()));
     String signature = String.format("void %s(%s)", name, field.getType());
-    LOGGER.info(LOG_CREATE, METHOD, signature);
+    LOGGER.trace(LOG_CREATE, METHOD, signature);
     return new Method(PRIVATE, name, signature);
   }
 
@@ -230,8 +229,7 @@ public abstract class DefaultRefactorService implements ArtifactRefactorService
 
   void copyMethods(File oldFile, File newFile) {
     oldFile.getMethods().stream()
-        .parallel()
-        .forEachOrdered(method -> newFile.addMethod(new Method(method)));
+        .forEach(method -> newFile.addMethod(new Method(method)));
   }
 
   String modifyFirstChar(String str) {
@@ -32,7 +32,7 @@ public class EntityRefactorService extends DefaultRefactorService {
   private void refactorEntity(Package model, Class artifact) {
     if (isValueObject(artifact)) {
       artifact.setType(DDDType.VALUE_OBJECT);
-      LOGGER.info("Changed {} to Value Object", artifact.getName());
+      LOGGER.trace("Changed {} to Value Object", artifact.getName());
     } else {
       refactorId(artifact);
       refactorFields(model, artifact);
@@ -136,15 +136,14 @@ public class EntityRefactorService extends DefaultRefactorService {
     newValueObject.addMethod(createValueObjectGetter(field));
     newValueObject.addMethod(createSideEffectFreeSetter(field));
 
-    LOGGER.info(LOG_CREATE, "ValueObject", newValueObject.getPath());
+    LOGGER.trace(LOG_CREATE, "ValueObject", newValueObject.getPath());
     return newValueObject;
   }
 
   private void refactorGetterAndSetter(Class artifact, Field field,
                                        String oldType, String newType) {
     artifact.getMethods().stream()
-        .parallel()
-        .forEachOrdered(method -> {
+        .forEach(method -> {
           if (method.getLowerName().endsWith(field.getLowerName())) {
             method.setSignature(method.getSignature().replace(oldType, newType));
           }
@@ -25,8 +25,7 @@ public class FactoryRefactorService extends DefaultRefactorService {
     Package impl = (Package) model.getContains().get(0);
 
     model.getContains().stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (artifact instanceof Interface
               && artifact.isTypeOf(DDDType.FACTORY)) {
             refactorFactory(model, impl, (Interface) artifact);
@@ -34,8 +33,7 @@ public class FactoryRefactorService extends DefaultRefactorService {
         });
 
     impl.getContains().stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (artifact instanceof Class
               && artifact.isTypeOf(DDDType.FACTORY)) {
             refactorFactory(model, (Class) artifact);
@@ -58,7 +56,7 @@ public class FactoryRefactorService extends DefaultRefactorService {
       factoryImpl = createImpl(impl, factory, DDDType.FACTORY);
       impl.addContains(factoryImpl);
       getRefactorData().getNewStructure().addClass(factoryImpl);
-      LOGGER.info(LOG_CREATE, FACTORY, factoryImpl.getPath());
+      LOGGER.trace(LOG_CREATE, FACTORY, factoryImpl.getPath());
     }
   }
 
@@ -74,11 +72,10 @@ public class FactoryRefactorService extends DefaultRefactorService {
       Interface repository = createInterface(model, factoryImpl, DDDType.FACTORY);
       model.addContains(repository);
       getRefactorData().getNewStructure().addInterface(repository);
-      LOGGER.info(LOG_CREATE, REPOSITORY, repository.getPath());
+      LOGGER.trace(LOG_CREATE, REPOSITORY, repository.getPath());
     } else {
       factoryImpl.getImplInterfaces().stream()
-          .parallel()
-          .forEachOrdered(repo -> refactorFactoryMethods(model, repo));
+          .forEach(repo -> refactorFactoryMethods(model, repo));
     }
   }
 
@@ -86,8 +83,7 @@ public class FactoryRefactorService extends DefaultRefactorService {
     Class entity = getEntity(model, repository);
     if (entity != null) {
       new ArrayList<>(repository.getDDDFitness().getIssues()).stream()
-          .parallel()
-          .forEachOrdered(issue -> {
+          .forEach(issue -> {
             if (issue.getDescription().contains("no create")) {
               repository.addMethod(createMethod(entity.getPath(), "create", "..."));
             }
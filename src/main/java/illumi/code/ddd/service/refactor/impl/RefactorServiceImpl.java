@@ -1,48 +1,130 @@
 package illumi.code.ddd.service.refactor.impl;
 
+import illumi.code.ddd.model.AnalysisProgress;
 import illumi.code.ddd.model.DDDRefactorData;
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Package;
 import illumi.code.ddd.model.fitness.DDDFitness;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
 import illumi.code.ddd.service.refactor.RefactorService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 
 public class RefactorServiceImpl implements RefactorService {
 
-  private DDDRefactorData refactorData;
-
-  public @Inject RefactorServiceImpl() {
-    // Empty
+  private static final String PHASE_REFACTOR = "refactor";
+  private static final String PHASE_COPY = "refactor.copy";
+  private static final String PHASE_INITIALIZE = "refactor.initialize";
+  private static final String PHASE_ASSIGN = "refactor.assign";
+  private static final String PHASE_ENTITY = "refactor.entity";
+  private static final String PHASE_VALUE_OBJECT = "refactor.value-object";
+  private static final String PHASE_DOMAIN_EVENT = "refactor.domain-event";
+  private static final String PHASE_REPOSITORY = "refactor.repository";
+  private static final String PHASE_FACTORY = "refactor.factory";
+  private static final String PHASE_AGGREGATE_ROOT = "refactor.aggregate-root";
+  private static final String PHASE_CLEANUP = "refactor.cleanup";
+  private static final String PHASE_DEPENDENCIES = "refactor.dependencies";
+
+  private AnalysisMetrics metrics;
+
+  private ProgressReporter reporter;
+
+  public RefactorServiceImpl() {
+    this(AnalysisMetrics.getDefault(), ProgressReporter.getDefault());
   }
 
-  @Override
-  public void setOldStructure(DDDStructure oldStructure) {
-    this.refactorData = new DDDRefactorData(oldStructure);
+  /**
+   * Constructor of RefactorServiceImpl.
+   *
+   * @param metrics  : timers of the phases
+   * @param reporter : reporter of the progress
+   */
+  @Inject
+  public RefactorServiceImpl(AnalysisMetrics metrics, ProgressReporter reporter) {
+    this.metrics = metrics;
+    this.reporter = reporter;
   }
 
+  /**
+   * Refactor a copy of the structure, the given structure is not changed.
+   *
+   * @param oldStructure : analysed structure of the system
+   * @return refactored structure
+   */
   @Override
-  public DDDStructure refactor() {
-
-    new InitializeService(refactorData).initModules();
-    new AssignService(refactorData).assign();
+  public DDDStructure refactor(DDDStructure oldStructure) {
+    AnalysisProgress progress = reporter.start(oldStructure.getRoot());
+    return metrics.record(PHASE_REFACTOR, progress.getPath(), () -> {
+      DDDRefactorData refactorData = record(progress, PHASE_COPY,
+          () -> new DDDRefactorData(oldStructure.copy()));
+
+      record(progress, refactorData, PHASE_INITIALIZE,
+          () -> new InitializeService(refactorData).initModules());
+      record(progress, refactorData, PHASE_ASSIGN,
+          () -> new AssignService(refactorData).assign());
+
+      record(progress, refactorData, PHASE_ENTITY,
+          () -> new EntityRefactorService(refactorData).refactor());
+      record(progress, refactorData, PHASE_VALUE_OBJECT,
+          () -> new ValueObjectRefactorService(refactorData).refactor());
+      record(progress, refactorData, PHASE_DOMAIN_EVENT,
+          () -> new DomainEventRefactorService(refactorData).refactor());
+      record(progress, refactorData, PHASE_REPOSITORY,
+          () -> new RepositoryRefactorService(refactorData).refactor());
+      record(progress, refactorData, PHASE_FACTORY,
+          () -> new FactoryRefactorService(refactorData).refactor());
+      record(progress, refactorData, PHASE_AGGREGATE_ROOT,
+          () -> new AggregateRootRefactorService(refactorData).refactor());
+
+      record(progress, PHASE_CLEANUP, () -> {
+        deleteEmptyModules(refactorData.getNewStructure().getStructure());
+        cleanFitness(refactorData);
+      });
+
+      record(progress, PHASE_DEPENDENCIES, () -> refactorDependencies(refactorData));
+
+      return refactorData.getNewStructure();
+    });
+  }
 
-    new EntityRefactorService(refactorData).refactor();
-    new ValueObjectRefactorService(refactorData).refactor();
-    new DomainEventRefactorService(refactorData).refactor();
-    new RepositoryRefactorService(refactorData).refactor();
-    new FactoryRefactorService(refactorData).refactor();
-    new AggregateRootRefactorService(refactorData).refactor();
+  private <T> T record(AnalysisProgress progress, String phase, Supplier<T> action) {
+    progress.setPhase(phase);
+    return metrics.record(phase, progress.getPath(), action);
+  }
 
-    deleteEmptyModules(refactorData.getNewStructure().getStructure());
-    cleanFitness();
+  private void record(AnalysisProgress progress, String phase, Runnable action) {
+    progress.setPhase(phase);
+    metrics.record(phase, progress.getPath(), action);
+  }
 
-    refactorDependencies();
+  /**
+   * Record a phase and count the modules, classes and interfaces,
+   * which it has added to the refactored structure.
+   */
+  private void record(AnalysisProgress progress, DDDRefactorData refactorData, String phase,
+                      Runnable action) {
+    DDDStructure structure = refactorData.getNewStructure();
+    int packages = structure.getPackages().size();
+    int classes = structure.getClasses().size();
+    int interfaces = structure.getInterfaces().size();
+
+    record(progress, phase, action);
+
+    count(progress, "refactor.package", structure.getPackages().size() - packages);
+    count(progress, "refactor.class", structure.getClasses().size() - classes);
+    count(progress, "refactor.interface", structure.getInterfaces().size() - interfaces);
+  }
 
-    return refactorData.getNewStructure();
+  private static void count(AnalysisProgress progress, String kind, int count) {
+    if (count > 0) {
+      progress.count(kind, count);
+    }
   }
 
   private void deleteEmptyModules(List<Artifact> structure) {
@@ -57,20 +139,20 @@ public class RefactorServiceImpl implements RefactorService {
     }
   }
 
-  private void cleanFitness() {
-    refactorData.getNewStructure().getAllArtifacts().stream()
-        .parallel()
-        .forEachOrdered(item -> item.setFitness(new DDDFitness()));
+  private void cleanFitness(DDDRefactorData refactorData) {
+    refactorData.getNewStructure().getArtifacts()
+        .forEach(item -> item.setFitness(new DDDFitness()));
+    // members have been changed in place by the refactoring
+    refactorData.getNewStructure().getClasses().forEach(Class::invalidateFeatures);
   }
 
-  private void refactorDependencies() {
+  private void refactorDependencies(DDDRefactorData refactorData) {
     refactorData.getNewStructure().getClasses().stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           for (String dependency : new ArrayList<>(artifact.getDependencies())) {
             String[] split = dependency.split("[.]");
             String name = split[split.length - 1];
-            String newPath = findNewPath(name);
+            String newPath = findNewPath(refactorData, name);
             if (newPath != null) {
               artifact.getDependencies().remove(dependency);
               artifact.addDependencies(newPath);
@@ -79,12 +161,8 @@ public class RefactorServiceImpl implements RefactorService {
         });
   }
 
-  private String findNewPath(String name) {
-    for (Artifact artifact : refactorData.getNewStructure().getAllArtifacts()) {
-      if (artifact.getName().equals(name)) {
-        return artifact.getPath();
-      }
-    }
-    return null;
+  private String findNewPath(DDDRefactorData refactorData, String name) {
+    Artifact artifact = refactorData.getNewStructure().getArtifactByName(name);
+    return artifact != null ? artifact.getPath() : null;
   }
 }
@@ -0,0 +1,130 @@
+package illumi.code.ddd.service.refactor.impl;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.File;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renames of the paths of artifacts, which are collected first and then applied to the
+ * types of all fields and the signatures of all methods in a single pass. The old paths
+ * are stored in a prefix trie and every type token of a text is replaced by the new path
+ * of the longest old path, which the token starts with.
+ */
+class RenamePlan {
+
+  private final Node root = new Node();
+  private int size;
+
+  /**
+   * Add the rename of a path. The first rename of a path is kept.
+   *
+   * @param oldPath : path before the refactoring
+   * @param newPath : path after the refactoring
+   */
+  void add(String oldPath, String newPath) {
+    if (oldPath == null || oldPath.isEmpty() || oldPath.equals(newPath)) {
+      return;
+    }
+    Node node = root;
+    for (int i = 0; i < oldPath.length(); i++) {
+      node = node.next.computeIfAbsent(oldPath.charAt(i), key -> new Node());
+    }
+    if (node.newPath == null) {
+      node.newPath = newPath;
+      size++;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Rewrite the fields and methods of all files.
+   *
+   * @param artifacts : artifacts of the structure
+   */
+  void apply(Collection<Artifact> artifacts) {
+    if (size == 0) {
+      return;
+    }
+    for (Artifact artifact : artifacts) {
+      if (artifact instanceof File) {
+        for (Field field : ((File) artifact).getFields()) {
+          String type = rewrite(field.getType());
+          if (type != field.getType()) {
+            field.setType(type);
+          }
+        }
+        for (Method method : ((File) artifact).getMethods()) {
+          String signature = rewrite(method.getSignature());
+          if (signature != method.getSignature()) {
+            method.setSignature(signature);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Replace every renamed path in a text.
+   *
+   * @param text : type or signature
+   * @return rewritten text, or the same text if nothing has been renamed
+   */
+  String rewrite(String text) {
+    if (text == null || size == 0) {
+      return text;
+    }
+    StringBuilder result = null;
+    int copied = 0;
+    int i = 0;
+    while (i < text.length()) {
+      if (i == 0 || !isPathPart(text.charAt(i - 1))) {
+        Node node = root;
+        Node match = null;
+        int end = i;
+        for (int j = i; j < text.length() && node != null; j++) {
+          node = node.next.get(text.charAt(j));
+          if (node != null && node.newPath != null && isTokenEnd(text, j + 1)) {
+            match = node;
+            end = j + 1;
+          }
+        }
+        if (match != null) {
+          if (result == null) {
+            result = new StringBuilder(text.length() + 32);
+          }
+          result.append(text, copied, i).append(match.newPath);
+          copied = end;
+          i = end;
+          continue;
+        }
+      }
+      i++;
+    }
+    return result != null ? result.append(text, copied, text.length()).toString() : text;
+  }
+
+  private static boolean isPathPart(char c) {
+    return c == '.' || Character.isJavaIdentifierPart(c);
+  }
+
+  private static boolean isTokenEnd(String text, int index) {
+    if (index == text.length()) {
+      return true;
+    }
+    char c = text.charAt(index);
+    return c == '$' || !Character.isJavaIdentifierPart(c);
+  }
+
+  private static final class Node {
+    private final Map<Character, Node> next = new HashMap<>(4);
+    private String newPath;
+  }
+}
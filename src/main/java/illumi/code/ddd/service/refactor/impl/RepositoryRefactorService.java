@@ -25,8 +25,7 @@ public class RepositoryRefactorService extends DefaultRefactorService {
     Package impl = (Package) model.getContains().get(0);
 
     model.getContains().stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (artifact instanceof Interface
               && artifact.isTypeOf(DDDType.REPOSITORY)) {
             refactorRepository(model, impl, (Interface) artifact);
@@ -34,8 +33,7 @@ public class RepositoryRefactorService extends DefaultRefactorService {
         });
 
     impl.getContains().stream()
-        .parallel()
-        .forEachOrdered(artifact -> {
+        .forEach(artifact -> {
           if (artifact instanceof Class
               && artifact.isTypeOf(DDDType.REPOSITORY)) {
             refactorRepository(model, (Class) artifact);
@@ -58,7 +56,7 @@ public class RepositoryRefactorService extends DefaultRefactorService {
       repositoryImpl = createImpl(impl, repository, DDDType.REPOSITORY);
       impl.addContains(repositoryImpl);
       getRefactorData().getNewStructure().addClass(repositoryImpl);
-      LOGGER.info(LOG_CREATE, REPOSITORY, repositoryImpl.getPath());
+      LOGGER.trace(LOG_CREATE, REPOSITORY, repositoryImpl.getPath());
     }
   }
 
@@ -74,11 +72,10 @@ public class RepositoryRefactorService extends DefaultRefactorService {
       Interface repository = createInterface(model, repositoryImpl, DDDType.REPOSITORY);
       model.addContains(repository);
       getRefactorData().getNewStructure().addInterface(repository);
-      LOGGER.info(LOG_CREATE, REPOSITORY, repository.getPath());
+      LOGGER.trace(LOG_CREATE, REPOSITORY, repository.getPath());
     } else {
       repositoryImpl.getImplInterfaces().stream()
-          .parallel()
-          .forEachOrdered(repo -> refactorRepositoryMethods(model, repo));
+          .forEach(repo -> refactorRepositoryMethods(model, repo));
     }
   }
 
@@ -88,8 +85,7 @@ public class RepositoryRefactorService extends DefaultRefactorService {
       String id = getIdOfEntity(entity);
 
       new ArrayList<>(repository.getDDDFitness().getIssues()).stream()
-          .parallel()
-          .forEachOrdered(issue -> {
+          .forEach(issue -> {
             if (issue.getDescription().contains("no nextIdentity")) {
               repository.addMethod(createMethod(id, "nextIdentity", ""));
             } else if (issue.getDescription().contains("no findBy/get")) {
@@ -0,0 +1,11 @@
+package illumi.code.ddd.service.session;
+
+import illumi.code.ddd.model.AnalysisSession;
+import illumi.code.ddd.model.DDDStructure;
+
+public interface SessionService {
+
+  AnalysisSession create(String path, DDDStructure structure);
+
+  AnalysisSession get(String id);
+}
@@ -0,0 +1,51 @@
+package illumi.code.ddd.service.session.impl;
+
+import illumi.code.ddd.model.AnalysisSession;
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.cache.ExpiringCache;
+import illumi.code.ddd.service.session.SessionService;
+
+import io.micronaut.context.annotation.Value;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public class SessionServiceImpl implements SessionService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SessionServiceImpl.class);
+
+  private ExpiringCache<String, AnalysisSession> sessions;
+
+  /**
+   * Constructor of SessionServiceImpl.
+   *
+   * @param maxSessions : maximal number of stored sessions
+   * @param ttlMinutes  : minutes until a session expires
+   */
+  @Inject
+  public SessionServiceImpl(@Value("${analyse.sessions.max-size:64}") int maxSessions,
+                            @Value("${analyse.sessions.ttl-minutes:60}") long ttlMinutes) {
+    this.sessions = new ExpiringCache<>(maxSessions, ttlMinutes, TimeUnit.MINUTES);
+  }
+
+  @Override
+  public AnalysisSession create(String path, DDDStructure structure) {
+    // the session keeps its own copy, the structure may be held by the result cache
+    AnalysisSession session =
+        new AnalysisSession(UUID.randomUUID().toString(), path, structure.copy());
+    sessions.put(session.getId(), session);
+    LOGGER.info("[SESSION] - CREATE - {} - {}", session.getId(), path);
+    return session;
+  }
+
+  @Override
+  public AnalysisSession get(String id) {
+    return id != null ? sessions.get(id) : null;
+  }
+}
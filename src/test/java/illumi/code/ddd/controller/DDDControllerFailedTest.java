@@ -63,12 +63,18 @@ class DDDControllerFailedTest {
   @Test
   void testCreatingMetrics() {
     Assertions.assertThrows(HttpClientResponseException.class, () ->
-        client.toBlocking().retrieve(HttpRequest.GET("/metric")));
+        client.toBlocking().retrieve(HttpRequest.GET("/metric/unknown")));
   }
 
   @Test
   void testRefactorStructure() {
     Assertions.assertThrows(HttpClientResponseException.class, () ->
-        client.toBlocking().retrieve(HttpRequest.GET("/refactor")));
+        client.toBlocking().retrieve(HttpRequest.GET("/refactor/unknown")));
+  }
+
+  @Test
+  void testProgress() {
+    Assertions.assertThrows(HttpClientResponseException.class, () ->
+        client.toBlocking().retrieve(HttpRequest.GET("/analyse/unknown/progress")));
   }
 }
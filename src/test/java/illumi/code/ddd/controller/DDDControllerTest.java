@@ -1,35 +1,56 @@
 package illumi.code.ddd.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import illumi.code.ddd.model.AnalysisProgress;
 import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Package;
 import illumi.code.ddd.service.analyse.AnalyseService;
 import illumi.code.ddd.service.analyse.impl.AnalyseServiceImpl;
+import illumi.code.ddd.service.cache.ResultCacheService;
+import illumi.code.ddd.service.cache.impl.ResultCacheServiceImpl;
 import illumi.code.ddd.service.fitness.FitnessService;
 import illumi.code.ddd.service.fitness.impl.FitnessServiceImpl;
 import illumi.code.ddd.service.metric.MetricService;
 import illumi.code.ddd.service.metric.impl.MetricServiceImpl;
+import illumi.code.ddd.service.monitor.ProgressReporter;
 import illumi.code.ddd.service.refactor.RefactorService;
 import illumi.code.ddd.service.refactor.impl.RefactorServiceImpl;
 
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
 import io.micronaut.http.client.RxHttpClient;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.test.annotation.MicronautTest;
 import io.micronaut.test.annotation.MockBean;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 @MicronautTest
 @SuppressWarnings("CheckStyle")
 class DDDControllerTest {
 
+  private static final String EXPECTED = "[{\"name\":\"visit\",\"DDD\":\"MODULE\",\"fitness\":100,"
+      + "\"contains\":["
+      + "{\"name\":\"Visit\",\"DDD\":\"VALUE_OBJECT\",\"fitness\":100},"
+      + "{\"name\":\"VisitRepository\",\"DDD\":\"REPOSITORY\",\"fitness\":100}]}]";
+
   @Inject
   AnalyseService analyseService;
   @Inject
@@ -38,6 +59,10 @@ class DDDControllerTest {
   MetricService metricService;
   @Inject
   RefactorService refactorService;
+  @Inject
+  ResultCacheService resultCacheService;
+  @Inject
+  ProgressReporter progressReporter;
 
   @Inject
   @Client("/")
@@ -53,6 +78,16 @@ class DDDControllerTest {
     return mock(FitnessService.class);
   }
 
+  @MockBean(ResultCacheServiceImpl.class)
+  ResultCacheService resultCacheService() {
+    ResultCacheService service = mock(ResultCacheService.class);
+    when(service.getFingerprint(anyString()))
+        .then(invocation -> CompletableFuture.completedFuture(null));
+    when(service.get(anyString(), any(), any())).then(invocation ->
+        invocation.<Supplier<CompletableFuture<DDDStructure>>>getArgument(2).get());
+    return service;
+  }
+
   @MockBean(MetricServiceImpl.class)
   MetricService metricService() {
     return mock(MetricService.class);
@@ -65,37 +100,18 @@ class DDDControllerTest {
 
   @Test
   void testAnalyzeStructure() {
+    DDDStructure structure = createStructure();
+    when(analyseService.analyzeStructureAsync("org.petclinic"))
+        .then(invocation -> CompletableFuture.completedFuture(structure));
 
-    JSONArray data = new JSONArray();
-    data.put(new JSONObject()
-        .put("contains", new JSONArray()
-            .put(new JSONObject()
-                .put("DDD", "VALUE_OBJECT")
-                .put("name", "Visit")
-                .put("fitness", 16.67)
-                .put("domain", "visit"))
-            .put(new JSONObject()
-                .put("DDD", "REPOSITORY")
-                .put("name", "VisitRepository")
-                .put("fitness", 0)
-                .put("domain", "visit")))
-        .put("DDD", "MODULE")
-        .put("name", "visit"));
-
-    when(analyseService.analyzeStructure("org.petclinic")).then(invocation -> data);
-    when(fitnessService.getStructureWithFitness()).then(invocation -> data);
-
-    final String expected = "[{\"contains\":["
-        + "{\"DDD\":\"VALUE_OBJECT\",\"fitness\":16.67,\"domain\":\"visit\",\"name\":\"Visit\"},"
-        + "{\"DDD\":\"REPOSITORY\",\"fitness\":0,\"domain\":\"visit\",\"name\":\"VisitRepository\"}],"
-        + "\"DDD\":\"MODULE\",\"name\":\"visit\"}]";
-
-    final String result = client.toBlocking().retrieve(HttpRequest.GET("/analyse/org.petclinic"));
+    final HttpResponse<String> result = client.toBlocking()
+        .exchange(HttpRequest.GET("/analyse/org.petclinic"), String.class);
 
-    Assertions.assertEquals(expected, result);
+    Assertions.assertEquals(EXPECTED, result.body());
+    Assertions.assertNotNull(result.header("X-Analysis-Session"));
 
-    verify(analyseService, times(1)).analyzeStructure("org.petclinic");
-    verify(fitnessService, times(1)).getStructureWithFitness();
+    verify(analyseService, times(1)).analyzeStructureAsync("org.petclinic");
+    verify(fitnessService, times(1)).evaluateStructure(structure);
   }
 
   @Test
@@ -108,48 +124,120 @@ class DDDControllerTest {
                 .put("fulfilled", 20))
             .put("fitness (%)", 21.74));
 
-    when(metricService.getMetric()).then(invocation -> data);
+    DDDStructure structure = createStructure();
+    structure.setPath("org.petclinic");
+    when(metricService.getMetric(any(DDDStructure.class))).then(invocation -> data);
+    final String session = analyse(structure);
 
     final String expected = "{\"metric\":{\"score\":\"F\",\"criteria\":{\"total\":92,\"fulfilled\":20},\"fitness (%)\":21.74}}";
 
-    final String result = client.toBlocking().retrieve(HttpRequest.GET("/metric"));
+    final String result = client.toBlocking().retrieve(HttpRequest.GET("/metric/" + session));
 
     Assertions.assertEquals(expected, result);
 
-    verify(metricService, times(1)).getMetric();
+    ArgumentCaptor<DDDStructure> captor = ArgumentCaptor.forClass(DDDStructure.class);
+    verify(metricService, times(1)).getMetric(captor.capture());
+    assertCopyOf(structure, captor.getValue());
   }
 
   @Test
   void testRefactoring() {
-    JSONArray data = new JSONArray();
-    data.put(new JSONObject()
-        .put("contains", new JSONArray()
-            .put(new JSONObject()
-                .put("DDD", "VALUE_OBJECT")
-                .put("name", "Visit")
-                .put("fitness", 16.67)
-                .put("domain", "visit"))
-            .put(new JSONObject()
-                .put("DDD", "REPOSITORY")
-                .put("name", "VisitRepository")
-                .put("fitness", 0)
-                .put("domain", "visit")))
-        .put("DDD", "MODULE")
-        .put("name", "visit"));
-
-    when(refactorService.refactor()).then(invocation -> new DDDStructure());
-    when(fitnessService.getStructureWithFitness()).then(invocation -> data);
-
-    final String expected = "[{\"contains\":["
-        + "{\"DDD\":\"VALUE_OBJECT\",\"fitness\":16.67,\"domain\":\"visit\",\"name\":\"Visit\"},"
-        + "{\"DDD\":\"REPOSITORY\",\"fitness\":0,\"domain\":\"visit\",\"name\":\"VisitRepository\"}],"
-        + "\"DDD\":\"MODULE\",\"name\":\"visit\"}]";
-
-    final String result = client.toBlocking().retrieve(HttpRequest.GET("/refactor"));
+    DDDStructure structure = createStructure();
+    structure.setPath("org.petclinic");
+    DDDStructure refactored = createStructure();
+    when(refactorService.refactor(any(DDDStructure.class))).then(invocation -> refactored);
+    final String session = analyse(structure);
+
+    final HttpResponse<String> result = client.toBlocking()
+        .exchange(HttpRequest.GET("/refactor/" + session), String.class);
+
+    Assertions.assertEquals(EXPECTED, result.body());
+    Assertions.assertNotNull(result.header("X-Analysis-Session"));
+    Assertions.assertNotEquals(session, result.header("X-Analysis-Session"));
+
+    ArgumentCaptor<DDDStructure> captor = ArgumentCaptor.forClass(DDDStructure.class);
+    verify(refactorService, times(1)).refactor(captor.capture());
+    assertCopyOf(structure, captor.getValue());
+    verify(fitnessService, times(1)).evaluateStructure(refactored);
+  }
 
-    Assertions.assertEquals(expected, result);
+  @Test
+  void testAnalyzeStructureCached() {
+    when(resultCacheService.getFingerprint("org.petclinic"))
+        .then(invocation -> CompletableFuture.completedFuture("2:1"));
+    when(resultCacheService.get(eq("org.petclinic"), eq("2:1"), any()))
+        .then(invocation -> CompletableFuture.completedFuture(createStructure()));
+
+    final HttpResponse<String> result = client.toBlocking()
+        .exchange(HttpRequest.GET("/analyse/org.petclinic"), String.class);
+
+    Assertions.assertEquals(EXPECTED, result.body());
+    Assertions.assertNotNull(result.header("X-Analysis-Session"));
+
+    verify(analyseService, times(0)).analyzeStructureAsync("org.petclinic");
+  }
 
-    verify(refactorService, times(1)).refactor();
-    verify(fitnessService, times(1)).getStructureWithFitness();
+  private String analyse(DDDStructure structure) {
+    when(analyseService.analyzeStructureAsync("org.petclinic"))
+        .then(invocation -> CompletableFuture.completedFuture(structure));
+
+    return client.toBlocking()
+        .exchange(HttpRequest.GET("/analyse/org.petclinic"), String.class)
+        .header("X-Analysis-Session");
+  }
+
+  /**
+   * The session keeps its own copy of the analysed structure.
+   */
+  private static void assertCopyOf(DDDStructure expected, DDDStructure actual) {
+    Assertions.assertAll(
+        () -> Assertions.assertNotSame(expected, actual),
+        () -> Assertions.assertEquals(expected.getPath(), actual.getPath()),
+        () -> Assertions.assertEquals(expected.getJSON().toString(),
+            actual.getJSON().toString()));
+  }
+
+  private DDDStructure createStructure() {
+    Package visit = new Package("visit", "org.petclinic.visit");
+    Class valueObject = new Class("Visit", "org.petclinic.visit.Visit");
+    valueObject.setType(DDDType.VALUE_OBJECT);
+    visit.addContains(valueObject);
+    visit.addContains(new Class("VisitRepository", "org.petclinic.visit.VisitRepository"));
+
+    ArrayList<Artifact> artifacts = new ArrayList<>();
+    artifacts.add(visit);
+    DDDStructure structure = new DDDStructure();
+    structure.setStructure(artifacts);
+    return structure;
+  }
+
+  @Test
+  void testExecutorStatistics() {
+    final String result = client.toBlocking().retrieve(HttpRequest.GET("/executor"));
+
+    JSONObject statistics = new JSONObject(result);
+
+    Assertions.assertAll(
+        () -> Assertions.assertTrue(statistics.getInt("maxPoolSize") > 0),
+        () -> Assertions.assertEquals(1024, statistics.getInt("queueSize")),
+        () -> Assertions.assertTrue(statistics.has("activeThreads")),
+        () -> Assertions.assertTrue(statistics.has("callerRuns")));
+  }
+
+  @Test
+  void testProgress() {
+    AnalysisProgress progress = progressReporter.start("org.progress");
+    progress.setPhase("loading");
+    progress.count("create.class", 2L);
+
+    JSONObject result = new JSONObject(client.toBlocking()
+        .retrieve(HttpRequest.GET("/analyse/org.progress/progress")));
+    JSONArray all = new JSONArray(client.toBlocking().retrieve(HttpRequest.GET("/progress")));
+
+    Assertions.assertAll(
+        () -> Assertions.assertEquals("org.progress", result.getString("path")),
+        () -> Assertions.assertEquals("loading", result.getString("phase")),
+        () -> Assertions.assertEquals(2L, result.getJSONObject("counts").getLong("create.class")),
+        () -> Assertions.assertTrue(all.length() > 0));
   }
 }
@@ -0,0 +1,71 @@
+package illumi.code.ddd.model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class AnalysisProgressTest {
+
+  @Test
+  void testCount() {
+    AnalysisProgress progress = new AnalysisProgress("de.test");
+    progress.count("create.class");
+    progress.count("create.class");
+    progress.count("read.changed", 3L);
+
+    assertAll(
+        () -> assertEquals("de.test", progress.getPath()),
+        () -> assertEquals("started", progress.getPhase()),
+        () -> assertEquals(2L, progress.getCount("create.class")),
+        () -> assertEquals(3L, progress.getCount("read.changed")),
+        () -> assertEquals(0L, progress.getCount("unknown")),
+        () -> assertEquals(5L, progress.getTotal()));
+  }
+
+  @Test
+  void testReport() {
+    AnalysisProgress progress = new AnalysisProgress("de.test");
+    progress.count("create.class");
+
+    boolean first = progress.report();
+    boolean unchanged = progress.report();
+    progress.count("create.class");
+    boolean changed = progress.report();
+
+    assertAll(
+        () -> assertTrue(first),
+        () -> assertFalse(unchanged),
+        () -> assertTrue(changed));
+  }
+
+  @Test
+  void testFinish() {
+    AnalysisProgress progress = new AnalysisProgress("de.test");
+    boolean before = progress.isFinished();
+    progress.finish();
+
+    assertAll(
+        () -> assertFalse(before),
+        () -> assertTrue(progress.isFinished()),
+        () -> assertTrue(progress.getDuration() >= 0L));
+  }
+
+  @Test
+  void testToJSON() {
+    AnalysisProgress progress = new AnalysisProgress("de.test");
+    progress.setPhase("loading");
+    progress.count("create.class", 2L);
+
+    JSONObject result = progress.toJSON();
+
+    assertAll(
+        () -> assertEquals("de.test", result.getString("path")),
+        () -> assertEquals("loading", result.getString("phase")),
+        () -> assertFalse(result.getBoolean("finished")),
+        () -> assertEquals(2L, result.getJSONObject("counts").getLong("create.class")));
+  }
+}
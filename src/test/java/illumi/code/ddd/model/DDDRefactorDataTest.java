@@ -0,0 +1,86 @@
+package illumi.code.ddd.model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Package;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class DDDRefactorDataTest {
+
+  @Test
+  void testGetModule() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    DDDRefactorData refactorData = new DDDRefactorData(structure);
+
+    Package domain = new Package("domain", "test.domain");
+    Package model = new Package("model", "test.domain.order.model");
+    Package impl = new Package("impl", "test.domain.order.model.impl");
+    refactorData.getNewStructure().addPackage(domain);
+    refactorData.getNewStructure().addPackage(model);
+
+    assertAll(
+        () -> assertEquals(domain, refactorData.getModule("domain")),
+        () -> assertEquals(model, refactorData.getModule("domain.order.model")),
+        () -> assertEquals(model, refactorData.getModule("order.model")),
+        () -> assertNull(refactorData.getModule("domain.order.model.impl")));
+
+    refactorData.getNewStructure().addPackage(impl);
+
+    assertEquals(impl, refactorData.getModule("domain.order.model.impl"));
+  }
+
+  @Test
+  void testGetClasses() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    Class order = new Class("Order", "de.test.Order");
+    Class item = new Class("OrderItem", "de.test.OrderItem");
+    Class address = new Class("Address", "de.test.Address");
+    structure.addClass(order);
+    structure.addClass(item);
+    structure.addClass(address);
+    DDDRefactorData refactorData = new DDDRefactorData(structure);
+
+    assertAll(
+        () -> assertEquals(Collections.singletonList(order),
+            refactorData.getClasses("de.test.order")),
+        () -> assertTrue(refactorData.getClasses("de.test.Unknown").isEmpty()),
+        () -> assertEquals(Arrays.asList(order, item),
+            refactorData.getClassesNamedIn("orderitems")),
+        () -> assertEquals(Arrays.asList(order, address),
+            refactorData.getClassesNamedIn("addressoforder")),
+        () -> assertTrue(refactorData.getClassesNamedIn("customer").isEmpty()));
+  }
+
+  @Test
+  void testGetDomainOf() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    DDDRefactorData refactorData = new DDDRefactorData(structure);
+
+    Class root = new Class("Order", "de.test.Order");
+    root.setDomain("order");
+    refactorData.addRoots(root);
+
+    Class repository = new Class("OrderRepository", "de.test.OrderRepository");
+    Class other = new Class("Customer", "de.test.Customer");
+
+    assertAll(
+        () -> assertEquals("order", refactorData.getDomainOf(repository)),
+        () -> assertNull(refactorData.getDomainOf(other)));
+
+    other.setDomain("order");
+    refactorData.reindex();
+
+    assertEquals("order", refactorData.getDomainOf(other));
+  }
+}
@@ -0,0 +1,98 @@
+package illumi.code.ddd.model;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Method;
+import illumi.code.ddd.model.artifacts.Package;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DDDStructureWriterTest {
+
+  private DDDStructure structure;
+
+  @BeforeEach
+  void init() {
+    structure = new DDDStructure();
+    structure.setPath("de.test");
+
+    Package domain = new Package("domain", "de.test.domain");
+    Package person = new Package("person", "de.test.domain.person");
+    domain.addContains(person);
+
+    Interface repository = new Interface("PersonRepository",
+        "de.test.domain.person.PersonRepository");
+    person.addContains(repository);
+
+    Class entity = new Class("Person", "de.test.domain.person.Person");
+    entity.setType(DDDType.ENTITY);
+    entity.addField(new Field("private", "id", "java.lang.Long"));
+    entity.addMethod(new Method("public", "getId", "java.lang.Long getId()"));
+    entity.addImplInterface(repository);
+    entity.addDependencies("de.test.domain.person.PersonRepository");
+    person.addContains(entity);
+
+    Class customer = new Class("Customer", "de.test.domain.person.Customer");
+    customer.setSuperClass(entity);
+    person.addContains(customer);
+
+    ArrayList<Artifact> artifacts = new ArrayList<>();
+    artifacts.add(domain);
+    artifacts.add(new Package("infrastructure", "de.test.infrastructure"));
+    structure.setStructure(artifacts);
+  }
+
+  @Test
+  void testWriteSameAsJSON() throws IOException {
+    ObjectMapper mapper = new ObjectMapper();
+
+    String result = writeAll(new DDDStructureWriter(structure));
+
+    assertEquals(mapper.readTree(structure.getJSON().toString()), mapper.readTree(result));
+  }
+
+  @Test
+  void testWriteInChunks() throws IOException {
+    DDDStructureWriter writer = new DDDStructureWriter(structure, 16);
+
+    byte[] first = writer.next();
+    String result = new String(first) + writeAll(writer);
+
+    assertAll(
+        () -> assertTrue(first.length < 16 + 256),
+        () -> assertEquals(writeAll(new DDDStructureWriter(structure)), result));
+  }
+
+  @Test
+  void testWriteEmpty() throws IOException {
+    DDDStructureWriter writer = new DDDStructureWriter(new DDDStructure());
+
+    assertAll(
+        () -> assertEquals("[]", new String(writer.next())),
+        () -> assertNull(writer.next()));
+  }
+
+  private String writeAll(DDDStructureWriter writer) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] chunk;
+    while ((chunk = writer.next()) != null) {
+      result.write(chunk);
+    }
+    writer.close();
+    return result.toString("UTF-8");
+  }
+}
@@ -0,0 +1,87 @@
+package illumi.code.ddd.model.artifacts;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ClassFeaturesTest {
+
+  @Test
+  void testValueObject() {
+    Class artifact = new Class("Address", "de.test.Address");
+    artifact.addField(new Field("private", "street", "java.lang.String"));
+    artifact.addField(new Field("private", "city", "de.test.City"));
+
+    ClassFeatures features = artifact.getFeatures();
+
+    assertAll(
+        () -> assertTrue(features.isValueObject("test.")),
+        () -> assertFalse(features.isConstantBeforeId()),
+        () -> assertFalse(features.hasIdField()),
+        () -> assertTrue(features.containsModelMethods()));
+  }
+
+  @Test
+  void testEntity() {
+    Class artifact = new Class("Visit", "de.test.Visit");
+    artifact.addField(new Field("private", "visitId", "java.lang.Long"));
+    artifact.addField(new Field("private", "MAX", "int"));
+    artifact.addMethod(new Method("public", "getVisitId", "java.lang.Long getVisitId()"));
+    artifact.addMethod(new Method("public", "equals", "boolean equals(java.lang.Object)"));
+    artifact.addMethod(new Method("public", "hashCode", "int hashCode()"));
+
+    ClassFeatures features = artifact.getFeatures();
+
+    assertAll(
+        () -> assertFalse(features.isValueObject("test.")),
+        () -> assertTrue(features.hasIdField()),
+        () -> assertFalse(features.isConstantBeforeId()),
+        () -> assertEquals(2, features.getEqualsOrHashCodeMethods()),
+        () -> assertTrue(features.containsMethod("getvisitid")),
+        () -> assertFalse(features.containsMethod("setVisitId")));
+  }
+
+  @Test
+  void testConstantBeforeId() {
+    Class artifact = new Class("Config", "de.test.Config");
+    artifact.addField(new Field("private", "ID", "java.lang.String"));
+
+    assertTrue(artifact.getFeatures().isConstantBeforeId());
+  }
+
+  @Test
+  void testDomainEventAndService() {
+    Class artifact = new Class("VisitCreated", "de.test.VisitCreated");
+    artifact.addField(new Field("private", "visitId", "java.lang.Long"));
+    artifact.addField(new Field("private", "timestamp", "java.time.Instant"));
+    artifact.addField(new Field("private", "repository", "de.test.VisitRepository"));
+    artifact.addMethod(new Method("public static", "main", "void main(java.lang.String[])"));
+
+    ClassFeatures features = artifact.getFeatures();
+
+    assertAll(
+        () -> assertTrue(features.isDomainEvent()),
+        () -> assertTrue(features.hasRepositoryField()),
+        () -> assertTrue(features.hasMainMethod()));
+  }
+
+  @Test
+  void testInvalidate() {
+    Class artifact = new Class("Visit", "de.test.Visit");
+    ClassFeatures before = artifact.getFeatures();
+    ClassFeatures cached = artifact.getFeatures();
+    artifact.addField(new Field("private", "id", "java.lang.Long"));
+    ClassFeatures after = artifact.getFeatures();
+
+    assertAll(
+        () -> assertSame(before, cached),
+        () -> assertNotSame(before, after),
+        () -> assertFalse(before.hasIdField()),
+        () -> assertTrue(after.hasIdField()));
+  }
+}
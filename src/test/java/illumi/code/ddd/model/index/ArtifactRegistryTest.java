@@ -0,0 +1,66 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import illumi.code.ddd.model.artifacts.Class;
+
+import org.junit.jupiter.api.Test;
+
+class ArtifactRegistryTest {
+
+  @Test
+  void testAdd() {
+    ArtifactRegistry<Class> registry = new ArtifactRegistry<>();
+    Class first = new Class("Person", "de.test.domain.Person");
+    Class second = new Class("Address", "de.test.domain.Address");
+
+    registry.add(first);
+    registry.add(second);
+    registry.add(first);
+
+    assertAll(
+        () -> assertEquals(2, registry.size()),
+        () -> assertEquals(first, registry.getAll().get(0)),
+        () -> assertEquals(second, registry.getAll().get(1)),
+        () -> assertEquals(first, registry.get("de.test.domain.Person")),
+        () -> assertEquals(second, registry.get("de.test.domain.Address")),
+        () -> assertNull(registry.get("de.test.domain.Unknown")));
+  }
+
+  @Test
+  void testReindex() {
+    ArtifactRegistry<Class> registry = new ArtifactRegistry<>();
+    Class artifact = new Class("Person", "de.test.domain.Person");
+    registry.add(artifact);
+
+    artifact.setPath("de.test.domain.person.model.Person");
+    registry.reindex();
+
+    assertAll(
+        () -> assertNull(registry.get("de.test.domain.Person")),
+        () -> assertEquals(artifact, registry.get("de.test.domain.person.model.Person")));
+  }
+
+  @Test
+  void testAddDuringReindex() throws InterruptedException {
+    ArtifactRegistry<Class> registry = new ArtifactRegistry<>();
+    Thread reindexer = new Thread(() -> {
+      for (int i = 0; i < 200; i++) {
+        registry.reindex();
+      }
+    });
+    reindexer.start();
+    for (int i = 0; i < 2000; i++) {
+      registry.add(new Class("Type" + i, "de.test.Type" + i));
+    }
+    reindexer.join();
+
+    assertEquals(2000, registry.size());
+    for (int i = 0; i < 2000; i++) {
+      assertNotNull(registry.get("de.test.Type" + i));
+    }
+  }
+}
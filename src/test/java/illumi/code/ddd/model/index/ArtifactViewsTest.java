@@ -0,0 +1,126 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.DDDType;
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.model.fitness.DDDFitness;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ArtifactViewsTest {
+
+  @Test
+  void testViews() {
+    Package module = new Package("domain", "de.test.domain");
+    module.setType(DDDType.MODULE);
+    Class entity = new Class("Person", "de.test.domain.Person");
+    entity.setType(DDDType.ENTITY);
+    Class repository = new Class("PersonRepository", "de.test.domain.PersonRepository");
+    repository.setType(DDDType.REPOSITORY);
+    Interface other = new Interface("Person", "de.test.api.Person");
+
+    ArtifactViews views = new ArtifactViews(Arrays.asList(
+        Collections.singletonList(module), Arrays.asList(entity, repository),
+        Collections.singletonList(other)));
+
+    assertAll(
+        () -> assertEquals(Arrays.asList(module, entity, repository, other), views.getAll()),
+        () -> assertEquals(Collections.singletonList(entity), views.getAll(DDDType.ENTITY)),
+        () -> assertEquals(Collections.singletonList(repository),
+            views.getAll(DDDType.REPOSITORY)),
+        () -> assertTrue(views.getAll(DDDType.FACTORY).isEmpty()),
+        () -> assertEquals(entity, views.get("Person")),
+        () -> assertEquals(repository, views.get("PersonRepository")),
+        () -> assertNull(views.get("Unknown")),
+        () -> assertNull(views.get(null)));
+  }
+
+  @Test
+  void testAnyNameContains() {
+    Class repository = new Class("PersonRepository", "de.test.domain.PersonRepository");
+    repository.setType(DDDType.REPOSITORY);
+    Class factory = new Class("OrderFactory", "de.test.domain.OrderFactory");
+    factory.setType(DDDType.FACTORY);
+
+    ArtifactViews views = new ArtifactViews(
+        Collections.singletonList(Arrays.asList(repository, factory)));
+
+    assertAll(
+        () -> assertTrue(views.anyNameContains(DDDType.REPOSITORY, "person")),
+        () -> assertFalse(views.anyNameContains(DDDType.REPOSITORY, "order")),
+        () -> assertTrue(views.anyNameContains(DDDType.FACTORY, "order")),
+        () -> assertFalse(views.anyNameContains(DDDType.SERVICE, "person")));
+  }
+
+  @Test
+  void testSortedByFitness() {
+    Class first = new Class("First", "de.test.First");
+    first.setFitness(new DDDFitness(2, 2));
+    Class second = new Class("Second", "de.test.Second");
+    second.setFitness(new DDDFitness(2, 1));
+    Class third = new Class("Third", "de.test.Third");
+    third.setFitness(new DDDFitness(4, 4));
+
+    ArtifactViews views = new ArtifactViews(
+        Collections.singletonList(Arrays.asList(first, second, third)));
+
+    assertEquals(Arrays.asList(second, first, third), views.getSortedByFitness());
+  }
+
+  @Test
+  void testOutdatedByTypeAndName() {
+    ArtifactVersions versions = new ArtifactVersions();
+    Class entity = new Class("Person", "de.test.domain.Person");
+    entity.addOwner(versions);
+    ArtifactViews views = new ArtifactViews(
+        Collections.singletonList(Collections.singletonList(entity)), versions);
+    boolean current = views.isCurrent();
+
+    entity.setFitness(new DDDFitness(2, 1));
+    boolean currentAfterFitness = views.isCurrent();
+    entity.setType(DDDType.ENTITY);
+    boolean currentAfterType = views.isCurrent();
+
+    ArtifactViews renamed = new ArtifactViews(
+        Collections.singletonList(Collections.singletonList(entity)), versions);
+    entity.setName("Customer");
+
+    assertAll(
+        () -> assertTrue(current),
+        () -> assertTrue(currentAfterFitness),
+        () -> assertFalse(currentAfterType),
+        () -> assertFalse(renamed.isCurrent()));
+  }
+
+  @Test
+  void testSortedByChangedFitness() {
+    ArtifactVersions versions = new ArtifactVersions();
+    Class first = new Class("First", "de.test.First");
+    first.addOwner(versions);
+    first.setFitness(new DDDFitness(2, 2));
+    Class second = new Class("Second", "de.test.Second");
+    second.addOwner(versions);
+    second.setFitness(new DDDFitness(2, 1));
+
+    ArtifactViews views = new ArtifactViews(
+        Collections.singletonList(Arrays.asList(first, second)), versions);
+    List<Artifact> before = views.getSortedByFitness();
+    first.setFitness(new DDDFitness(2, 0));
+
+    assertAll(
+        () -> assertEquals(Arrays.asList(second, first), before),
+        () -> assertEquals(Arrays.asList(first, second), views.getSortedByFitness()));
+  }
+}
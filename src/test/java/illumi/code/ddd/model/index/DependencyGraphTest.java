@@ -0,0 +1,96 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Package;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTest {
+
+  private final Package domain = new Package("domain", "de.test.domain");
+  private final Package infrastructure = new Package("infrastructure", "de.test.infrastructure");
+  private final Package application = new Package("application", "de.test.application");
+
+  private final Interface repository = new Interface("Repository", "de.test.domain.Repository");
+  private final Class entity = new Class("Entity", "de.test.domain.Entity");
+  private final Class repositoryImpl =
+      new Class("RepositoryImpl", "de.test.infrastructure.RepositoryImpl");
+  private final Class service = new Class("Service", "de.test.application.Service");
+
+  private DependencyGraph createGraph() {
+    domain.addContains(repository);
+    domain.addContains(entity);
+
+    repositoryImpl.addImplInterface(repository);
+    repositoryImpl.addDependencies("de.test.domain.Entity");
+    infrastructure.addContains(repositoryImpl);
+
+    service.addDependencies("de.test.domain.Entity");
+    service.addDependencies("de.test.infrastructure.RepositoryImpl");
+    application.addContains(service);
+
+    return new DependencyGraph(Arrays.asList(domain, infrastructure, application));
+  }
+
+  @Test
+  void testMembers() {
+    DependencyGraph graph = createGraph();
+
+    assertAll(
+        () -> assertTrue(graph.contains(0, entity)),
+        () -> assertFalse(graph.contains(1, entity)),
+        () -> assertTrue(graph.contains(2, service)));
+  }
+
+  @Test
+  void testDependsOn() {
+    DependencyGraph graph = createGraph();
+
+    assertAll(
+        () -> assertTrue(graph.dependsOn(repositoryImpl, 0)),
+        () -> assertFalse(graph.dependsOn(repositoryImpl, 2)),
+        () -> assertTrue(graph.dependsOn(service, 0)),
+        () -> assertTrue(graph.dependsOn(service, 1)),
+        () -> assertFalse(graph.dependsOn(entity, 0)));
+  }
+
+  @Test
+  void testCouplings() {
+    DependencyGraph graph = createGraph();
+
+    assertAll(
+        () -> assertEquals(2, graph.countAfferentCouplings(0)),
+        () -> assertEquals(0, graph.countEfferentCouplings(0)),
+        () -> assertEquals(1, graph.countAfferentCouplings(1)),
+        () -> assertEquals(1, graph.countEfferentCouplings(1)),
+        () -> assertEquals(0, graph.countAfferentCouplings(2)),
+        () -> assertEquals(1, graph.countEfferentCouplings(2)));
+  }
+
+  @Test
+  void testViewsOfArtifactGraph() {
+    createGraph();
+    ArtifactGraph artifacts = new ArtifactGraph(
+        Arrays.asList(domain, infrastructure, application),
+        Arrays.asList(entity, repositoryImpl, service));
+    DependencyGraph graph = new DependencyGraph(artifacts);
+    DependencyIndex index = new DependencyIndex(artifacts);
+
+    assertAll(
+        () -> assertEquals(4, artifacts.size()),
+        () -> assertEquals(2, index.countDependents(entity)),
+        () -> assertEquals(1, index.countDependents(repositoryImpl)),
+        () -> assertTrue(graph.contains(0, repository)),
+        () -> assertTrue(graph.dependsOn(repositoryImpl, 0)),
+        () -> assertEquals(2, graph.countAfferentCouplings(0)),
+        () -> assertEquals(1, graph.countEfferentCouplings(2)));
+  }
+}
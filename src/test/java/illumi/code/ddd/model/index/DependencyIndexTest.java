@@ -0,0 +1,67 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.artifacts.Class;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DependencyIndexTest {
+
+  private final Class root = new Class("Root", "de.test.Root");
+  private final Class entity = new Class("Entity", "de.test.Entity");
+  private final Class value = new Class("Value", "de.test.Value");
+  private final Class child = new Class("Child", "de.test.Child");
+
+  private DependencyIndex createIndex() {
+    root.addDependencies("de.test.Entity");
+    root.addDependencies("de.test.Value");
+    root.addDependencies("java.lang.String");
+    entity.addDependencies("de.test.Value");
+    entity.addDependencies("de.test.Value");
+    child.setSuperClass(root);
+    return new DependencyIndex(Arrays.asList(root, entity, value, child));
+  }
+
+  @Test
+  void testDependents() {
+    DependencyIndex index = createIndex();
+    List<Class> dependents = new ArrayList<>();
+    index.forEachDependent(value, dependents::add);
+
+    assertAll(
+        () -> assertEquals(Arrays.asList(root, entity), dependents),
+        () -> assertEquals(2, index.countDependents(value)),
+        () -> assertEquals(1, index.countDependents(entity)),
+        () -> assertEquals(0, index.countDependents(root)),
+        () -> assertTrue(index.anyDependent(value, item -> item == entity)),
+        () -> assertFalse(index.anyDependent(entity, item -> item == entity)));
+  }
+
+  @Test
+  void testSubclasses() {
+    DependencyIndex index = createIndex();
+
+    assertAll(
+        () -> assertEquals(1, index.countSubclasses(root)),
+        () -> assertEquals(0, index.countSubclasses(child)),
+        () -> assertTrue(index.anySubclass(root, item -> item == child)));
+  }
+
+  @Test
+  void testContains() {
+    DependencyIndex index = createIndex();
+
+    assertAll(
+        () -> assertTrue(index.contains(root)),
+        () -> assertFalse(index.contains(new Class("Root", "de.test.Root"))),
+        () -> assertEquals(0, index.countDependents(new Class("Other", "de.test.Other"))));
+  }
+}
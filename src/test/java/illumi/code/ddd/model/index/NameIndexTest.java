@@ -0,0 +1,62 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+  private final NameIndex index =
+      new NameIndex(Arrays.asList("Visit", "Owner", "Pet", "Vet", "Visit", "PetType"));
+
+  @Test
+  void testCount() {
+    assertAll(
+        () -> assertEquals(2, index.count("Visit")),
+        () -> assertEquals(1, index.count("PetType")),
+        () -> assertEquals(0, index.count("Specialty")));
+  }
+
+  @Test
+  void testAnyMatch() {
+    List<String> matches = new ArrayList<>();
+    index.anyMatch("OwnerPetTypeVisits", name -> {
+      matches.add(name);
+      return false;
+    });
+
+    assertAll(
+        () -> assertTrue(matches.contains("Owner")),
+        () -> assertTrue(matches.contains("Pet")),
+        () -> assertTrue(matches.contains("PetType")),
+        () -> assertTrue(matches.contains("Visit")),
+        () -> assertFalse(matches.contains("Vet")));
+  }
+
+  @Test
+  void testAnyMatchFiltered() {
+    assertAll(
+        () -> assertTrue(index.anyMatch("VetRepository", name -> true)),
+        () -> assertFalse(index.anyMatch("VetRepository", name -> !name.equals("Vet"))),
+        () -> assertFalse(index.anyMatch("Specialty", name -> true)));
+  }
+
+  @Test
+  void testOverlappingNames() {
+    NameIndex overlapping = new NameIndex(Arrays.asList("abcd", "bc", "c"));
+    List<String> matches = new ArrayList<>();
+    overlapping.anyMatch("xabcx", name -> {
+      matches.add(name);
+      return false;
+    });
+
+    assertEquals(Arrays.asList("bc", "c"), matches);
+  }
+}
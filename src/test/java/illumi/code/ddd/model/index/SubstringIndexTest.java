@@ -0,0 +1,44 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class SubstringIndexTest {
+
+  @Test
+  void testContains() {
+    SubstringIndex index = new SubstringIndex(
+        Arrays.asList("personrepository", "orderfactory", null, "person"));
+
+    assertAll(
+        () -> assertEquals(34, index.size()),
+        () -> assertTrue(index.contains("person")),
+        () -> assertTrue(index.contains("repository")),
+        () -> assertTrue(index.contains("order")),
+        () -> assertTrue(index.contains("factory")),
+        () -> assertTrue(index.contains("onrep")),
+        () -> assertTrue(index.contains("y")),
+        () -> assertTrue(index.contains("")),
+        () -> assertFalse(index.contains("address")),
+        () -> assertFalse(index.contains("orderrepository")),
+        () -> assertFalse(index.contains("personrepositoryimpl")),
+        () -> assertFalse(index.contains("zzz")));
+  }
+
+  @Test
+  void testEmpty() {
+    SubstringIndex index = new SubstringIndex(Collections.emptyList());
+
+    assertAll(
+        () -> assertEquals(0, index.size()),
+        () -> assertFalse(index.contains("")),
+        () -> assertFalse(index.contains("person")));
+  }
+}
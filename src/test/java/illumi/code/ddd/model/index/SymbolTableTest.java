@@ -0,0 +1,121 @@
+package illumi.code.ddd.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class SymbolTableTest {
+
+  @Test
+  void testIntern() {
+    SymbolTable table = new SymbolTable();
+    String first = table.intern(new String("java.lang.String".toCharArray()));
+    String second = table.intern(new String("java.lang.String".toCharArray()));
+
+    assertAll(
+        () -> assertSame(first, second),
+        () -> assertEquals("java.lang.String", second),
+        () -> assertNull(table.intern(null)),
+        () -> assertEquals(1, table.size()));
+  }
+
+  @Test
+  void testConcurrentIntern() {
+    SymbolTable table = new SymbolTable();
+    CountDownLatch start = new CountDownLatch(1);
+    List<CompletableFuture<List<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(CompletableFuture.supplyAsync(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        List<String> symbols = new ArrayList<>();
+        for (int j = 0; j < 1000; j++) {
+          String symbol = table.intern(new String(("de.test.Type" + (j % 10)).toCharArray()));
+          if (j < 10) {
+            symbols.add(symbol);
+          } else {
+            assertSame(symbols.get(j % 10), symbol);
+          }
+        }
+        return symbols;
+      }));
+    }
+    start.countDown();
+
+    List<String> first = results.get(0).join();
+    assertAll(
+        () -> results.forEach(result -> {
+          for (int j = 0; j < 10; j++) {
+            assertSame(first.get(j), result.join().get(j));
+          }
+        }),
+        () -> assertEquals(10, table.size()));
+  }
+
+  @Test
+  void testDisabled() {
+    SymbolTable table = new SymbolTable(false);
+    String first = new String("java.lang.String".toCharArray());
+    String second = new String("java.lang.String".toCharArray());
+
+    assertAll(
+        () -> assertSame(first, table.intern(first)),
+        () -> assertNotSame(first, table.intern(second)),
+        () -> assertEquals(0, table.size()));
+  }
+
+  @Test
+  void testInternedMembers() {
+    Field first = new Field("private", "value", new String("java.lang.Long".toCharArray()));
+    Field second = new Field("private", "value", new String("java.lang.Long".toCharArray()));
+    Method method = new Method("public", "getValue", "java.lang.Long getValue()");
+
+    assertAll(
+        () -> assertSame(first.getType(), second.getType()),
+        () -> assertSame(first.getLowerName(), second.getLowerName()),
+        () -> assertEquals("getvalue", method.getLowerName()));
+  }
+
+  @Test
+  void testUniqueSymbolsNotInterned() {
+    Class first = new Class("Visit", new String("de.test.Visit".toCharArray()));
+    Class second = new Class("Visit", new String("de.test.Visit".toCharArray()));
+    Method getter = new Method("public", "getValue",
+        new String("java.lang.Long getValue()".toCharArray()));
+    Method other = new Method("public", "getValue",
+        new String("java.lang.Long getValue()".toCharArray()));
+
+    assertAll(
+        () -> assertNotSame(first.getPath(), second.getPath()),
+        () -> assertNotSame(getter.getSignature(), other.getSignature()),
+        () -> assertSame(getter.getName(), other.getName()));
+  }
+
+  @Test
+  void testLowerNameOfRenamedArtifact() {
+    Class artifact = new Class("Visit", "de.test.Visit");
+    String before = artifact.getLowerName();
+    artifact.setName("VisitId");
+
+    assertAll(
+        () -> assertEquals("visit", before),
+        () -> assertEquals("visitid", artifact.getLowerName()),
+        () -> assertSame(artifact.getLowerName(), artifact.getLowerName()));
+  }
+}
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
 import illumi.code.ddd.service.analyse.AnalyseService;
 
@@ -156,9 +155,8 @@ class AnalyseServiceImplTest {
   void readArtifacts() {
     try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
       AnalyseService service = new AnalyseServiceImpl(driver);
-      service.setStructure(new DDDStructure());
 
-      JSONArray result = service.analyzeStructure("de.test");
+      JSONArray result = service.analyzeStructure("de.test").getJSON();
       System.out.println(result);
       JSONArray infrastructure = result.getJSONObject(1).getJSONArray("contains");
       assertAll("Should return DDD-Types of infrastructure",
@@ -221,12 +219,23 @@ class AnalyseServiceImplTest {
     }
   }
 
+  @Test
+  void readArtifactsIncremental() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      AnalyseService service = new AnalyseServiceImpl(driver);
+
+      JSONArray first = service.analyzeStructure("de.test").getJSON();
+      JSONArray second = service.analyzeStructure("de.test").getJSON();
+
+      assertEquals(first.toString(), second.toString());
+    }
+  }
+
   @Test
   void readArtifactsWithoutDriver() {
     AnalyseService service = new AnalyseServiceImpl(null);
-    service.setStructure(new DDDStructure());
 
-    JSONArray result = service.analyzeStructure("de.test");
+    JSONArray result = service.analyzeStructure("de.test").getJSON();
 
     assertTrue(result.isEmpty());
   }
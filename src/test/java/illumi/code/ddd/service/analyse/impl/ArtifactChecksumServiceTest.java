@@ -0,0 +1,72 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArtifactChecksumServiceTest {
+
+  private ServerControls embeddedDatabaseServer;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(a:Java:Class{fqn: 'de.test.A', name: 'A'})"
+            + "CREATE(root)-[:CONTAINS]->(a)"
+            + "CREATE(b:Java:Class{fqn: 'de.test.B', name: 'B'})"
+            + "CREATE(root)-[:CONTAINS]->(b)"
+            + "CREATE(id:Java:Field{name: 'id', signature: 'java.lang.Integer id', visibility: 'private'})"
+            + "CREATE(b)-[:DECLARES]->(id)"
+            + "CREATE(c:Java:Class{fqn: 'de.test.C', name: 'C'})"
+            + "CREATE(root)-[:CONTAINS]->(c)"
+            + "CREATE(other:Java:Field{name: 'id', signature: 'java.lang.Integer id', visibility: 'private'})"
+            + "CREATE(c)-[:DECLARES]->(other)"
+        ).newServer();
+  }
+
+  @Test
+  void testGetChecksums() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      ArtifactChecksumService service = new ArtifactChecksumService(
+          new AsyncQueryService(driver, 2));
+
+      HashMap<String, String> before = service.getChecksums("de.test").join();
+      try (Session session = driver.session()) {
+        session.run("MATCH (c:Class{fqn: 'de.test.C'}) "
+            + "CREATE(c)-[:DECLARES]->(:Java:Method{name: 'getId', "
+            + "signature: 'java.lang.Integer getId()', visibility: 'public'})");
+      }
+      HashMap<String, String> after = service.getChecksums("de.test").join();
+
+      assertAll("Should change only the checksum of the changed artifact",
+          () -> assertEquals(3, before.size()),
+          () -> assertNotEquals(before.get("de.test.A"), before.get("de.test.B")),
+          () -> assertEquals(before.get("de.test.B"), before.get("de.test.C")),
+          () -> assertEquals(before.get("de.test.A"), after.get("de.test.A")),
+          () -> assertEquals(before.get("de.test.B"), after.get("de.test.B")),
+          () -> assertNotEquals(before.get("de.test.C"), after.get("de.test.C")));
+    }
+  }
+
+  @Test
+  void testGetChecksumsFailed() {
+    ArtifactChecksumService service = new ArtifactChecksumService(new AsyncQueryService(null, 1));
+
+    assertNull(service.getChecksums("de.test").join());
+  }
+}
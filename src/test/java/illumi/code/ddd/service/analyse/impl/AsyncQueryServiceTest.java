@@ -0,0 +1,150 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.QueryProfiler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AsyncQueryServiceTest {
+  private static final String QUERY =
+      "MATCH (root:Package)-[:CONTAINS]->(artifact) WHERE root.fqn = {path} "
+          + "RETURN artifact.fqn as path";
+
+  private ServerControls embeddedDatabaseServer;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(a:Java:Class{fqn: 'de.test.A', name: 'A'})"
+            + "CREATE(root)-[:CONTAINS]->(a)"
+            + "CREATE(b:Java:Class{fqn: 'de.test.B', name: 'B'})"
+            + "CREATE(root)-[:CONTAINS]->(b)"
+            + "CREATE(c:Java:Class{fqn: 'de.test.C', name: 'C'})"
+            + "CREATE(root)-[:CONTAINS]->(c)"
+        ).newServer();
+  }
+
+  @Test
+  void testForEach() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      AsyncQueryService service = new AsyncQueryService(driver, 2);
+      AtomicInteger records = new AtomicInteger();
+
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        futures.add(service.forEach("test", QUERY, Values.parameters("path", "de.test"),
+            item -> records.incrementAndGet()));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+      assertAll(
+          () -> assertEquals(2, service.getMaxInFlight()),
+          () -> assertEquals(15, records.get()));
+    }
+  }
+
+  @Test
+  void testForEachCounted() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      AsyncQueryService service = new AsyncQueryService(driver, 2,
+          new AnalysisMetrics(registry), QueryProfiler.getDefault());
+
+      CompletableFuture.allOf(
+          service.forEach("test", QUERY, Values.parameters("path", "de.test"), item -> { }),
+          service.forEach("test", QUERY, Values.parameters("path", "de.test"), item -> { })
+      ).join();
+
+      assertAll(
+          () -> assertEquals(2.0,
+              registry.find("ddd.neo4j.queries").tag("path", "de.test").counter().count()),
+          () -> assertEquals(6.0,
+              registry.find("ddd.neo4j.rows").tag("path", "de.test").counter().count()));
+    }
+  }
+
+  @Test
+  void testForEachOnExecutor() {
+    ExecutorService consumer = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "consumer"));
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      AsyncQueryService service = new AsyncQueryService(driver, 2,
+          AnalysisMetrics.getDefault(), QueryProfiler.getDefault(), consumer);
+      List<String> threads = new ArrayList<>();
+      List<Object> paths = new ArrayList<>();
+
+      service.forEach("test", QUERY, Values.parameters("path", "de.test"), item -> {
+        threads.add(Thread.currentThread().getName());
+        paths.add(item.get("path").asString());
+      }).join();
+
+      assertAll(
+          () -> assertEquals(3, paths.size()),
+          () -> assertTrue(threads.stream().allMatch("consumer"::equals)));
+    } finally {
+      consumer.shutdown();
+    }
+  }
+
+  @Test
+  void testForEachInBatches() {
+    ExecutorService consumer = Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "consumer"));
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      AsyncQueryService service = new AsyncQueryService(driver, 1,
+          AnalysisMetrics.getDefault(), QueryProfiler.getDefault(), consumer);
+      int count = AsyncQueryService.BATCH_SIZE * 3 + 1;
+      List<Long> numbers = new ArrayList<>();
+      List<String> threads = new ArrayList<>();
+
+      service.forEach("test", "UNWIND range(1, {count}) AS number RETURN number",
+          Values.parameters("count", count), item -> {
+            threads.add(Thread.currentThread().getName());
+            numbers.add(item.get("number").asLong());
+          }).join();
+
+      assertAll(
+          () -> assertEquals(count, numbers.size()),
+          () -> assertEquals(1L, (long) numbers.get(0)),
+          () -> assertEquals(count, (long) numbers.get(count - 1)),
+          () -> assertTrue(threads.stream().allMatch("consumer"::equals)));
+    } finally {
+      consumer.shutdown();
+    }
+  }
+
+  @Test
+  void testForEachFailed() {
+    AsyncQueryService service = new AsyncQueryService(null, 0);
+
+    CompletableFuture<Void> result = service.forEach("test", QUERY,
+        Values.parameters("path", "de.test"), item -> { });
+
+    assertAll(
+        () -> assertEquals(1, service.getMaxInFlight()),
+        () -> assertTrue(result.isCompletedExceptionally()));
+  }
+}
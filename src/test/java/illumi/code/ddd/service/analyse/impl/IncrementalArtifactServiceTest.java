@@ -0,0 +1,112 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.File;
+import illumi.code.ddd.model.artifacts.Interface;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IncrementalArtifactServiceTest {
+
+  private ServerControls embeddedDatabaseServer;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(person:Java:Class{fqn: 'de.test.Person', name: 'Person'})"
+            + "CREATE(root)-[:CONTAINS]->(person)"
+            + "CREATE(customer:Java:Class{fqn: 'de.test.Customer', name: 'Customer'})"
+            + "CREATE(root)-[:CONTAINS]->(customer)"
+            + "CREATE(name:Java:Field{name: 'name', signature: 'java.lang.String name', visibility: 'private'})"
+            + "CREATE(customer)-[:DECLARES]->(name)"
+            + "CREATE(customer)-[:EXTENDS]->(person)"
+        ).newServer();
+  }
+
+  @Test
+  void testLoadArtifacts() {
+    DDDStructure oldStructure = createStructure();
+    Class oldPerson = oldStructure.getClass("de.test.Person");
+    oldPerson.addField(new Field("private", "id", "java.lang.Integer"));
+    oldPerson.addImplInterface(oldStructure.getInterface("de.test.Named"));
+    oldPerson.addDependencies("de.test.Customer");
+    AnalysisSnapshot snapshot = new AnalysisSnapshot(checksums("1", "2"), oldStructure);
+
+    DDDStructure structure = createStructure();
+    Class person = structure.getClass("de.test.Person");
+    Class customer = structure.getClass("de.test.Customer");
+
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      IncrementalArtifactService service =
+          new IncrementalArtifactService(new AsyncQueryService(driver, 2), structure);
+
+      List<File> changed = service.getChangedArtifacts(snapshot, checksums("1", "3"));
+      service.loadArtifacts(snapshot, changed).join();
+    }
+
+    assertAll("Should take over unchanged and read changed artifacts",
+        () -> assertEquals(1, person.getFields().size()),
+        () -> assertNotSame(oldPerson.getFields().get(0), person.getFields().get(0)),
+        () -> assertSame(structure.getInterface("de.test.Named"),
+            person.getImplInterfaces().get(0)),
+        () -> assertEquals("de.test.Customer", person.getDependencies().get(0)),
+        () -> assertEquals("name", customer.getFields().get(0).getName()),
+        () -> assertSame(person, customer.getSuperClass()));
+  }
+
+  @Test
+  void testGetChangedArtifacts() {
+    AnalysisSnapshot snapshot = new AnalysisSnapshot(checksums("1", "2"), createStructure());
+    DDDStructure structure = createStructure();
+    structure.addClass(new Class("Address", "de.test.Address"));
+
+    IncrementalArtifactService service =
+        new IncrementalArtifactService(new AsyncQueryService(null, 1), structure);
+    Map<String, String> checksums = checksums("1", "3");
+    checksums.put("de.test.Address", "4");
+
+    List<File> result = service.getChangedArtifacts(snapshot, checksums);
+
+    assertAll("Should find changed and new artifacts",
+        () -> assertEquals(2, result.size()),
+        () -> assertSame(structure.getClass("de.test.Customer"), result.get(0)),
+        () -> assertSame(structure.getClass("de.test.Address"), result.get(1)));
+  }
+
+  private DDDStructure createStructure() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    structure.addClass(new Class("Person", "de.test.Person"));
+    structure.addClass(new Class("Customer", "de.test.Customer"));
+    structure.addInterface(new Interface("Named", "de.test.Named"));
+    return structure;
+  }
+
+  private Map<String, String> checksums(String person, String customer) {
+    Map<String, String> checksums = new HashMap<>();
+    checksums.put("de.test.Person", person);
+    checksums.put("de.test.Customer", customer);
+    checksums.put("de.test.Named", "0");
+    return checksums;
+  }
+}
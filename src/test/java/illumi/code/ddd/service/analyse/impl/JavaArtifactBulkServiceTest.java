@@ -0,0 +1,216 @@
+package illumi.code.ddd.service.analyse.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Annotation;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Enum;
+import illumi.code.ddd.model.artifacts.Interface;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JavaArtifactBulkServiceTest {
+  private ServerControls embeddedDatabaseServer;
+
+  @BeforeAll
+  @SuppressWarnings("CheckStyle")
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(model:Java:Package{fqn: 'de.test.model', name: 'model'})"
+            + "CREATE(root)-[:CONTAINS]->(model)"
+
+            + "CREATE(c:Java:Class{fqn: 'de.test.model.Class', name: 'Class'})"
+            + "CREATE(model)-[:CONTAINS]->(c)"
+            + "CREATE(f1:Java:Field{name: 'name', signature: 'java.lang.String name', visibility: 'public'})"
+            + "CREATE(c)-[:DECLARES]->(f1)"
+            + "CREATE(f2:Java:Field{})"
+            + "CREATE(c)-[:DECLARES]->(f2)"
+            + "CREATE(m1:Java:Method{name: 'exec', signature: 'void exec(java.lang.Integer)', visibility: 'public'})"
+            + "CREATE(c)-[:DECLARES]->(m1)"
+
+            + "CREATE(e:Java:Class{fqn: 'de.test.model.SuperClass', name: 'SuperClass'})"
+            + "CREATE(model)-[:CONTAINS]->(e)"
+            + "CREATE(c)-[:EXTENDS]->(e)"
+            + "CREATE(c)-[:DEPENDS_ON]->(e)"
+
+            + "CREATE(i:Java:Interface{fqn: 'de.test.model.Interface', name: 'Interface'})"
+            + "CREATE(model)-[:CONTAINS]->(i)"
+            + "CREATE(c)-[:IMPLEMENTS]->(i)"
+            + "CREATE(c)-[:DEPENDS_ON]->(i)"
+
+            + "CREATE(d:Java:Class{fqn: 'de.test.model.Dependency', name: 'Dependency'})"
+            + "CREATE(model)-[:CONTAINS]->(d)"
+            + "CREATE(c)-[:DEPENDS_ON]->(d)"
+
+            + "CREATE(en:Java:Enum{fqn: 'de.test.model.Type', name: 'Type'})"
+            + "CREATE(model)-[:CONTAINS]->(en)"
+            + "CREATE(f3:Java:Field{name: 'VALUE', signature: 'de.test.model.Type VALUE', visibility: 'public'})"
+            + "CREATE(en)-[:DECLARES]->(f3)"
+            + "CREATE(m2:Java:Method{name: 'values', signature: 'de.test.model.Type[] values()', visibility: 'public'})"
+            + "CREATE(en)-[:DECLARES]->(m2)"
+
+            + "CREATE(anno:Java:Annotation{fqn: 'de.test.model.Anno', name: 'Anno'})"
+            + "CREATE(model)-[:CONTAINS]->(anno)"
+            + "CREATE(a:Java:Annotation{name: 'Anno'})"
+            + "CREATE(c)-[:ANNOTATED_BY]->(a)"
+            + "CREATE(t:Type{fqn: 'de.test.model.Anno'})"
+            + "CREATE(a)-[:OF_TYPE]->(t)"
+
+            + "CREATE(f4:Java:Field{name: 'ID', signature: 'java.lang.Integer ID', visibility: 'public'})"
+            + "CREATE(i)-[:DECLARES]->(f4)"
+            + "CREATE(m3:Java:Method{name: 'find', signature: 'void find()', visibility: 'public'})"
+            + "CREATE(i)-[:DECLARES]->(m3)"
+            + "CREATE(ia:Java:Annotation{name: 'Anno'})"
+            + "CREATE(i)-[:ANNOTATED_BY]->(ia)"
+            + "CREATE(ia)-[:OF_TYPE]->(t)"
+            + "CREATE(ea:Java:Annotation{name: 'Anno'})"
+            + "CREATE(en)-[:ANNOTATED_BY]->(ea)"
+            + "CREATE(ea)-[:OF_TYPE]->(t)"
+            + "CREATE(f5:Java:Field{name: 'name', signature: 'java.lang.String name', visibility: 'private'})"
+            + "CREATE(anno)-[:DECLARES]->(f5)"
+            + "CREATE(m4:Java:Method{name: 'value', signature: 'java.lang.String value()', visibility: 'public'})"
+            + "CREATE(anno)-[:DECLARES]->(m4)"
+        ).newServer();
+  }
+
+  private DDDStructure createStructure() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    structure.addClass(new Class("Class", "de.test.model.Class"));
+    structure.addClass(new Class("SuperClass", "de.test.model.SuperClass"));
+    structure.addClass(new Class("Dependency", "de.test.model.Dependency"));
+    structure.addInterface(new Interface("Interface", "de.test.model.Interface"));
+    structure.addEnum(new Enum("Type", "de.test.model.Type"));
+    structure.addAnnotation(new Annotation("Anno", "de.test.model.Anno"));
+    return structure;
+  }
+
+  @Test
+  void testLoadArtifacts() {
+    DDDStructure structure = createStructure();
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      new JavaArtifactBulkService(new AsyncQueryService(driver, 2), structure)
+          .loadArtifacts("de.test");
+
+      Class artifact = structure.getClasses().get(0);
+      Enum type = structure.getEnums().get(0);
+
+      assertAll(
+          () -> assertEquals(1, artifact.getFields().size()),
+          () -> assertEquals("name", artifact.getFields().get(0).getName()),
+          () -> assertEquals("java.lang.String", artifact.getFields().get(0).getType()),
+
+          () -> assertEquals(1, artifact.getMethods().size()),
+          () -> assertEquals("exec", artifact.getMethods().get(0).getName()),
+
+          () -> assertEquals(structure.getClasses().get(1), artifact.getSuperClass()),
+
+          () -> assertEquals(1, artifact.getImplInterfaces().size()),
+          () -> assertEquals(structure.getInterfaces().get(0), artifact.getImplInterfaces().get(0)),
+
+          () -> assertEquals(1, artifact.getAnnotations().size()),
+          () -> assertEquals(structure.getAnnotations().get(0), artifact.getAnnotations().get(0)),
+
+          () -> assertEquals(1, artifact.getDependencies().size()),
+          () -> assertEquals("de.test.model.Dependency", artifact.getDependencies().get(0)),
+
+          () -> assertEquals(1, type.getFields().size()),
+          () -> assertEquals(0, type.getMethods().size()));
+    }
+  }
+
+  @Test
+  void testLoadMembersOfOtherArtifacts() {
+    DDDStructure structure = createStructure();
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      new JavaArtifactBulkService(new AsyncQueryService(driver, 2), structure)
+          .loadArtifacts("de.test");
+
+      Interface artifact = structure.getInterfaces().get(0);
+      Enum type = structure.getEnums().get(0);
+      Annotation annotation = structure.getAnnotations().get(0);
+
+      assertAll(
+          () -> assertEquals(1, artifact.getFields().size()),
+          () -> assertEquals("ID", artifact.getFields().get(0).getName()),
+          () -> assertEquals(1, artifact.getMethods().size()),
+          () -> assertEquals("void find()", artifact.getMethods().get(0).getSignature()),
+          () -> assertEquals(Collections.singletonList(annotation), artifact.getAnnotations()),
+
+          () -> assertEquals(Collections.singletonList(annotation), type.getAnnotations()),
+
+          () -> assertEquals(1, annotation.getFields().size()),
+          () -> assertEquals("private", annotation.getFields().get(0).getVisibility()),
+          () -> assertEquals(1, annotation.getMethods().size()),
+          () -> assertEquals("value", annotation.getMethods().get(0).getName()));
+    }
+  }
+
+  @Test
+  void testLoadChangedArtifacts() {
+    DDDStructure structure = createStructure();
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      new JavaArtifactBulkService(new AsyncQueryService(driver, 2), structure)
+          .loadArtifactsAsync("de.test", Collections.singletonList("de.test.model.Type"))
+          .join();
+
+      Class artifact = structure.getClasses().get(0);
+      Enum type = structure.getEnums().get(0);
+
+      assertAll(
+          () -> assertEquals(0, artifact.getFields().size()),
+          () -> assertNull(artifact.getSuperClass()),
+          () -> assertEquals(0, artifact.getDependencies().size()),
+          () -> assertEquals(1, type.getFields().size()));
+    }
+  }
+
+  @Test
+  void testLoadUnresolvedArtifacts() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    structure.addClass(new Class("Class", "de.test.model.Class"));
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      new JavaArtifactBulkService(new AsyncQueryService(driver, 2), structure)
+          .loadArtifacts("de.test");
+
+      Class artifact = structure.getClasses().get(0);
+
+      assertAll(
+          () -> assertNull(artifact.getSuperClass()),
+          () -> assertEquals(0, artifact.getImplInterfaces().size()),
+          () -> assertEquals(0, artifact.getAnnotations().size()),
+          () -> assertEquals(3, artifact.getDependencies().size()));
+    }
+  }
+
+  @Test
+  void testLoadArtifactsFailed() {
+    DDDStructure structure = createStructure();
+
+    new JavaArtifactBulkService(new AsyncQueryService(null, 2), structure)
+        .loadArtifacts("de.test");
+
+    Class artifact = structure.getClasses().get(0);
+
+    assertAll(
+        () -> assertEquals(0, artifact.getFields().size()),
+        () -> assertEquals(0, artifact.getMethods().size()),
+        () -> assertNull(artifact.getSuperClass()),
+        () -> assertEquals(0, artifact.getDependencies().size()));
+  }
+}
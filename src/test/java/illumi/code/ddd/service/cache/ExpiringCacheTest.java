@@ -0,0 +1,88 @@
+package illumi.code.ddd.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+
+  private AtomicLong clock;
+
+  @BeforeEach
+  void init() {
+    clock = new AtomicLong();
+  }
+
+  @Test
+  void testPutAndGet() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100, clock::get);
+
+    cache.put("a", "A");
+
+    assertAll(
+        () -> assertEquals("A", cache.get("a")),
+        () -> assertNull(cache.get("b")),
+        () -> assertEquals(1, cache.size()));
+  }
+
+  @Test
+  void testExpired() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100, clock::get);
+
+    cache.put("a", "A");
+    clock.set(100);
+
+    assertAll(
+        () -> assertNull(cache.get("a")),
+        () -> assertEquals(0, cache.size()),
+        () -> assertEquals(1, cache.getEvictions()));
+  }
+
+  @Test
+  void testValues() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(3, 100, clock::get);
+
+    cache.put("a", "A");
+    clock.set(50);
+    cache.put("b", "B");
+    cache.get("a");
+    clock.set(100);
+    cache.put("c", "C");
+
+    assertEquals(Arrays.asList("B", "C"), cache.values());
+  }
+
+  @Test
+  void testEvictLeastRecentlyUsed() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100, clock::get);
+
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.get("a");
+    cache.put("c", "C");
+
+    assertAll(
+        () -> assertEquals("A", cache.get("a")),
+        () -> assertNull(cache.get("b")),
+        () -> assertEquals("C", cache.get("c")),
+        () -> assertEquals(1, cache.getEvictions()));
+  }
+
+  @Test
+  void testRemove() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100, clock::get);
+
+    cache.put("a", "A");
+
+    assertAll(
+        () -> assertEquals("A", cache.remove("a")),
+        () -> assertNull(cache.remove("a")),
+        () -> assertEquals(0, cache.size()));
+  }
+}
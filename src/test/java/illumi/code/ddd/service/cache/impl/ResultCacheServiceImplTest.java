@@ -0,0 +1,155 @@
+package illumi.code.ddd.service.cache.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.DDDStructure;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResultCacheServiceImplTest {
+
+  private ServerControls embeddedDatabaseServer;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(a:Java:Class{fqn: 'de.test.A', name: 'A'})"
+            + "CREATE(root)-[:CONTAINS]->(a)"
+        ).newServer();
+  }
+
+  @Test
+  void testFingerprint() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      ResultCacheServiceImpl service = new ResultCacheServiceImpl(driver, 2, 60);
+
+      String before = service.getFingerprint("de.test").join();
+      try (Session session = driver.session()) {
+        session.run("CREATE(b:Java:Class{fqn: 'de.test.B', name: 'B'})");
+      }
+      String after = service.getFingerprint("de.test").join();
+
+      assertAll(
+          () -> assertTrue(before.startsWith("2:1:")),
+          () -> assertNotEquals(before, after));
+    }
+  }
+
+  @Test
+  void testFingerprintOfProperties() {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI())) {
+      ResultCacheServiceImpl service = new ResultCacheServiceImpl(driver, 2, 60);
+
+      String before = service.getFingerprint("de.test").join();
+      String unchanged = service.getFingerprint("de.test").join();
+      try (Session session = driver.session()) {
+        session.run("MATCH(a:Class{fqn: 'de.test.A'}) SET a.name = 'Renamed'").consume();
+      }
+      String after = service.getFingerprint("de.test").join();
+      try (Session session = driver.session()) {
+        session.run("MATCH(a:Class{fqn: 'de.test.A'}) SET a.name = 'A'").consume();
+      }
+
+      assertAll(
+          () -> assertEquals(before, unchanged),
+          () -> assertEquals(before.substring(0, before.lastIndexOf(':')),
+              after.substring(0, after.lastIndexOf(':'))),
+          () -> assertNotEquals(before, after));
+    }
+  }
+
+  @Test
+  void testFingerprintFailed() {
+    ResultCacheServiceImpl service = new ResultCacheServiceImpl(null, 2, 60);
+
+    assertNull(service.getFingerprint("de.test").join());
+  }
+
+  @Test
+  void testGetAndPut() {
+    ResultCacheServiceImpl service = new ResultCacheServiceImpl(null, 2, 60);
+    DDDStructure result = new DDDStructure();
+
+    service.put("de.test", "2:1", result);
+
+    assertAll(
+        () -> assertSame(result, service.get("de.test", "2:1")),
+        () -> assertNull(service.get("de.test", "3:1")),
+        () -> assertNull(service.get("de.other", "2:1")),
+        () -> assertNull(service.get("de.test", null)));
+  }
+
+  @Test
+  void testLoadOnce() {
+    ResultCacheServiceImpl service = new ResultCacheServiceImpl(null, 2, 60);
+    DDDStructure result = new DDDStructure();
+    AtomicInteger loads = new AtomicInteger();
+    CompletableFuture<DDDStructure> loading = new CompletableFuture<>();
+
+    CompletableFuture<DDDStructure> first = service.get("de.test", "2:1", () -> {
+      loads.incrementAndGet();
+      return loading;
+    });
+    CompletableFuture<DDDStructure> second = service.get("de.test", "2:1", () -> {
+      loads.incrementAndGet();
+      return CompletableFuture.completedFuture(new DDDStructure());
+    });
+    boolean waiting = !first.isDone() && !second.isDone();
+    loading.complete(result);
+
+    assertAll(
+        () -> assertTrue(waiting),
+        () -> assertSame(result, first.join()),
+        () -> assertSame(result, second.join()),
+        () -> assertEquals(1, loads.get()),
+        () -> assertSame(result, service.get("de.test", "2:1")));
+  }
+
+  @Test
+  void testLoadFailed() {
+    ResultCacheServiceImpl service = new ResultCacheServiceImpl(null, 2, 60);
+    CompletableFuture<DDDStructure> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("Failed"));
+    DDDStructure result = new DDDStructure();
+
+    CompletableFuture<DDDStructure> first = service.get("de.test", "2:1", () -> failed);
+    CompletableFuture<DDDStructure> second = service.get("de.test", "2:1",
+        () -> CompletableFuture.completedFuture(result));
+
+    assertAll(
+        () -> assertTrue(first.isCompletedExceptionally()),
+        () -> assertSame(result, second.join()));
+  }
+
+  @Test
+  void testReplaceOutdated() {
+    ResultCacheServiceImpl service = new ResultCacheServiceImpl(null, 2, 60);
+    DDDStructure outdated = new DDDStructure();
+    DDDStructure result = new DDDStructure();
+
+    service.put("de.test", "2:1", outdated);
+    service.put("de.test", "3:1", result);
+
+    assertAll(
+        () -> assertNull(service.get("de.test", "2:1")),
+        () -> assertSame(result, service.get("de.test", "3:1")));
+  }
+}
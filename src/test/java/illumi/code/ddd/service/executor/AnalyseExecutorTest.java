@@ -0,0 +1,196 @@
+package illumi.code.ddd.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class AnalyseExecutorTest {
+
+  @Test
+  void testForEach() {
+    AnalyseExecutor executor = new AnalyseExecutor(4, 16, false);
+    List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      items.add(i);
+    }
+    AtomicInteger sum = new AtomicInteger();
+
+    executor.forEach(items, sum::addAndGet);
+    executor.close();
+
+    assertEquals(4950, sum.get());
+  }
+
+  @Test
+  void testNestedForEach() {
+    AnalyseExecutor executor = new AnalyseExecutor(2, 1, false);
+    List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      items.add(i);
+    }
+    AtomicInteger count = new AtomicInteger();
+
+    executor.forEach(items, outer -> executor.forEach(items, inner -> count.incrementAndGet()));
+    executor.close();
+
+    assertEquals(100, count.get());
+  }
+
+  @Test
+  void testMap() {
+    AnalyseExecutor executor = new AnalyseExecutor(4, 16, false);
+    List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      items.add(i);
+    }
+
+    List<Integer> result = executor.map(items, item -> item * 2);
+    executor.close();
+
+    assertEquals(100, result.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i * 2, (int) result.get(i));
+    }
+  }
+
+  @Test
+  void testForEachFailed() {
+    AnalyseExecutor executor = new AnalyseExecutor(4, 16, false);
+    List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      items.add(i);
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> executor.forEach(items, item -> {
+      if (item == 7) {
+        throw new IllegalArgumentException("Failed");
+      }
+    }));
+    executor.close();
+  }
+
+  @Test
+  void testDefaultDaemonThreads() throws Exception {
+    Boolean daemon = CompletableFuture
+        .supplyAsync(() -> Thread.currentThread().isDaemon(),
+            AnalyseExecutor.getDefault().getExecutor())
+        .get();
+
+    assertTrue(daemon);
+  }
+
+  @Test
+  void testStatistics() {
+    AnalyseExecutor executor = new AnalyseExecutor(3, 32, false);
+
+    JSONObject result = executor.getStatistics();
+    executor.close();
+
+    assertAll(
+        () -> assertFalse(result.getBoolean("virtualThreads")),
+        () -> assertEquals(3, result.getInt("maxPoolSize")),
+        () -> assertEquals(32, result.getInt("queueSize")),
+        () -> assertEquals(0, result.getInt("queuedTasks")),
+        () -> assertEquals(0, result.getLong("callerRuns")),
+        () -> assertEquals(0, result.getLong("deferredTasks")));
+  }
+
+  @Test
+  void testHandoffNotRunByCaller() throws Exception {
+    AnalyseExecutor executor = new AnalyseExecutor(1, 1, false);
+    Executor handoff = executor.getHandoffExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(5);
+    List<String> threads = new ArrayList<>();
+
+    handoff.execute(() -> await(release));
+    for (int i = 0; i < 5; i++) {
+      handoff.execute(() -> {
+        synchronized (threads) {
+          threads.add(Thread.currentThread().getName());
+        }
+        done.countDown();
+      });
+    }
+    String caller = Thread.currentThread().getName();
+    boolean waiting = threads.isEmpty();
+    release.countDown();
+
+    boolean finished = done.await(10, TimeUnit.SECONDS);
+    JSONObject result = executor.getStatistics();
+    executor.close();
+
+    assertAll(
+        () -> assertTrue(waiting),
+        () -> assertTrue(finished),
+        () -> assertFalse(threads.contains(caller)),
+        () -> assertEquals(0, result.getLong("callerRuns")),
+        () -> assertTrue(result.getLong("deferredTasks") > 0));
+  }
+
+  @Test
+  void testCallerRuns() {
+    AnalyseExecutor executor = new AnalyseExecutor(1, 1, false);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> threads = new ArrayList<>();
+
+    executor.getExecutor().execute(() -> await(release));
+    executor.getExecutor().execute(() -> { });
+    executor.getExecutor().execute(() -> threads.add(Thread.currentThread().getName()));
+    release.countDown();
+    JSONObject result = executor.getStatistics();
+    executor.close();
+
+    assertAll(
+        () -> assertEquals(Thread.currentThread().getName(), threads.get(0)),
+        () -> assertEquals(1, result.getLong("callerRuns")));
+  }
+
+  @Test
+  void testMeters() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AnalyseExecutor executor = new AnalyseExecutor(1, 1, false, new AnalysisMetrics(registry));
+    CountDownLatch release = new CountDownLatch(1);
+
+    executor.getExecutor().execute(() -> await(release));
+    executor.getExecutor().execute(() -> { });
+    executor.getExecutor().execute(() -> { });
+    executor.getHandoffExecutor().execute(() -> { });
+    double queued = registry.find(AnalyseExecutor.QUEUED_TASKS).gauge().value();
+    release.countDown();
+    executor.close();
+
+    assertAll(
+        () -> assertEquals(1.0, queued),
+        () -> assertEquals(1.0,
+            registry.find(AnalyseExecutor.CALLER_RUNS).functionCounter().count()),
+        () -> assertEquals(1.0,
+            registry.find(AnalyseExecutor.DEFERRED_TASKS).functionCounter().count()),
+        () -> assertTrue(registry.find(AnalyseExecutor.ACTIVE_THREADS).gauge() != null));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -21,10 +21,11 @@ import org.junit.jupiter.api.TestInstance;
 class FitnessServiceImplTest {
 
   private FitnessServiceImpl service;
+  private DDDStructure structure;
 
   @BeforeAll
   void init() {
-    DDDStructure structure = new DDDStructure();
+    structure = new DDDStructure();
     structure.setPath("de.test");
 
     Package artifact1 = new Package("Package", "de.test.Package");
@@ -52,12 +53,11 @@ class FitnessServiceImplTest {
     structure.setStructure(data);
 
     service = new FitnessServiceImpl();
-    service.setStructure(structure);
   }
 
   @Test
   void testFitnessOfModules() {
-    final JSONArray result = service.getStructureWithFitness();
+    final JSONArray result = service.getStructureWithFitness(structure);
 
     assertAll("Should return fitness of classes",
         () -> assertEquals(100.0, result.getJSONObject(0).getDouble("fitness")),
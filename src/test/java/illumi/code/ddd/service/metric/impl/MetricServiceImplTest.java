@@ -23,10 +23,11 @@ import org.junit.jupiter.api.TestInstance;
 class MetricServiceImplTest {
 
   private MetricServiceImpl service;
+  private DDDStructure structure;
 
   @BeforeAll
   void init() {
-    final DDDStructure structure = new DDDStructure();
+    structure = new DDDStructure();
     Package domain = new Package("domain", "de.test.domain");
     domain.setType(DDDType.MODULE);
     DDDFitness fitness = new DDDFitness(3, 2);
@@ -66,7 +67,6 @@ class MetricServiceImplTest {
     structure.setStructure(data);
 
     service = new MetricServiceImpl();
-    service.setStructure(structure);
   }
 
   @Test
@@ -117,7 +117,7 @@ class MetricServiceImplTest {
                 .put("de.test.domain", new JSONObject().put("abstractness", 0))
                 .put("de.test.infrastructure", new JSONObject().put("abstractness", 0))));
 
-    final JSONObject result = service.getMetric();
+    final JSONObject result = service.getMetric(structure);
     assertEquals(expected.toString(), result.toString());
   }
 }
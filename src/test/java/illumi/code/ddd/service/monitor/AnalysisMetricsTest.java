@@ -0,0 +1,110 @@
+package illumi.code.ddd.service.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Interface;
+import illumi.code.ddd.model.artifacts.Package;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnalysisMetricsTest {
+
+  private SimpleMeterRegistry registry;
+  private AnalysisMetrics metrics;
+
+  @BeforeEach
+  void init() {
+    registry = new SimpleMeterRegistry();
+    metrics = new AnalysisMetrics(registry);
+  }
+
+  @Test
+  void testRecord() {
+    metrics.record("test", "de.test", () -> { });
+    String result = metrics.record("test", "de.test", () -> "result");
+
+    assertAll(
+        () -> assertEquals("result", result),
+        () -> assertEquals(2, getTimer("test", "de.test").count()));
+  }
+
+  @Test
+  void testRecordAsync() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+
+    CompletableFuture<String> result = metrics.recordAsync("test", "de.test", () -> future);
+
+    assertNull(registry.find(AnalysisMetrics.PHASE).timer());
+
+    future.complete("result");
+
+    assertAll(
+        () -> assertEquals("result", result.join()),
+        () -> assertEquals(1, getTimer("test", "de.test").count()));
+  }
+
+  @Test
+  void testRecordWithoutPath() {
+    metrics.record("test", null, () -> { });
+
+    assertEquals(1, getTimer("test", AnalysisMetrics.UNKNOWN_PATH).count());
+  }
+
+  @Test
+  void testCountQueries() {
+    metrics.countQuery("de.test");
+    metrics.countQuery("de.test");
+    metrics.countRows("de.test", 5);
+    metrics.countRows("de.test", 3);
+
+    assertAll(
+        () -> assertEquals(2.0, registry.find(AnalysisMetrics.QUERIES)
+            .tag(AnalysisMetrics.TAG_PATH, "de.test").counter().count()),
+        () -> assertEquals(8.0, registry.find(AnalysisMetrics.ROWS)
+            .tag(AnalysisMetrics.TAG_PATH, "de.test").counter().count()));
+  }
+
+  @Test
+  void testCountArtifacts() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+    structure.addPackage(new Package("domain", "de.test.domain"));
+    structure.addClass(new Class("Visit", "de.test.domain.Visit"));
+    structure.addClass(new Class("Owner", "de.test.domain.Owner"));
+    structure.addInterface(new Interface("VisitRepository", "de.test.domain.VisitRepository"));
+
+    metrics.countArtifacts(structure);
+
+    assertAll(
+        () -> assertEquals(1.0, getArtifacts("package")),
+        () -> assertEquals(2.0, getArtifacts("class")),
+        () -> assertEquals(1.0, getArtifacts("interface")),
+        () -> assertEquals(0.0, getArtifacts("enum")),
+        () -> assertEquals(0.0, getArtifacts("annotation")));
+  }
+
+  private Timer getTimer(String phase, String path) {
+    return registry.find(AnalysisMetrics.PHASE)
+        .tag(AnalysisMetrics.TAG_PHASE, phase)
+        .tag(AnalysisMetrics.TAG_PATH, path)
+        .timer();
+  }
+
+  private double getArtifacts(String type) {
+    return registry.find(AnalysisMetrics.ARTIFACTS)
+        .tag(AnalysisMetrics.TAG_PATH, "de.test")
+        .tag(AnalysisMetrics.TAG_TYPE, type)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,80 @@
+package illumi.code.ddd.service.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import illumi.code.ddd.model.AnalysisProgress;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProgressReporterTest {
+
+  private ProgressReporter reporter;
+
+  @BeforeEach
+  void init() {
+    reporter = new ProgressReporter(2, 60L);
+  }
+
+  @Test
+  void testStart() {
+    AnalysisProgress progress = reporter.start("de.test");
+
+    assertAll(
+        () -> assertSame(progress, reporter.get("de.test")),
+        () -> assertNull(reporter.get("de.unknown")),
+        () -> assertNull(reporter.get(null)),
+        () -> assertEquals(1, reporter.getAll().size()));
+  }
+
+  @Test
+  void testContinueOrStart() {
+    AnalysisProgress progress = reporter.start("de.test");
+    AnalysisProgress continued = reporter.continueOrStart("de.test");
+    reporter.finish("de.test");
+    AnalysisProgress restarted = reporter.continueOrStart("de.test");
+
+    assertAll(
+        () -> assertSame(progress, continued),
+        () -> assertNotSame(progress, restarted),
+        () -> assertFalse(restarted.isFinished()));
+  }
+
+  @Test
+  void testFinish() {
+    AnalysisProgress progress = reporter.start("de.test");
+    progress.count("create.class");
+    reporter.finish("de.test");
+
+    assertAll(
+        () -> assertTrue(progress.isFinished()),
+        () -> assertEquals("finished", progress.getPhase()),
+        () -> assertFalse(progress.report()));
+  }
+
+  @Test
+  void testReport() {
+    AnalysisProgress progress = reporter.start("de.test");
+    progress.count("create.class");
+    reporter.report();
+
+    assertFalse(progress.report());
+  }
+
+  @Test
+  void testGetAll() {
+    reporter.start("de.a");
+    reporter.start("de.b");
+    reporter.start("de.c");
+
+    assertAll(
+        () -> assertEquals(2, reporter.getAll().size()),
+        () -> assertNull(reporter.get("de.a")));
+  }
+}
@@ -0,0 +1,111 @@
+package illumi.code.ddd.service.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryProfilerTest {
+  private static final String QUERY =
+      "MATCH (root:Package)-[:CONTAINS]->(artifact) WHERE root.fqn = {path} "
+          + "RETURN artifact.fqn as path";
+
+  private static final Value PARAMETERS = Values.parameters("path", "de.test");
+
+  private ServerControls embeddedDatabaseServer;
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders
+        .newInProcessBuilder()
+        .withFixture("CREATE(root:Java:Package{fqn: 'de.test', name: 'test'})"
+            + "CREATE(a:Java:Class{fqn: 'de.test.A', name: 'A'})"
+            + "CREATE(root)-[:CONTAINS]->(a)"
+            + "CREATE(b:Java:Class{fqn: 'de.test.B', name: 'B'})"
+            + "CREATE(root)-[:CONTAINS]->(b)"
+        ).newServer();
+  }
+
+  @BeforeEach
+  void init() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void testDisabled() {
+    QueryProfiler profiler = new QueryProfiler(false, 1.0, 0L, new AnalysisMetrics(registry));
+
+    QueryProfiler.Execution execution = profiler.start("test", QUERY, PARAMETERS);
+    execution.countRow();
+    execution.finish(null);
+
+    assertAll(
+        () -> assertFalse(profiler.isEnabled()),
+        () -> assertFalse(execution.isProfiled()),
+        () -> assertEquals(QUERY, execution.getStatement()),
+        () -> assertEquals(1, execution.getRows()),
+        () -> assertNull(registry.find(QueryProfiler.LATENCY).timer()));
+  }
+
+  @Test
+  void testNotSampled() {
+    QueryProfiler profiler = new QueryProfiler(true, 0.0, 1000L, new AnalysisMetrics(registry));
+
+    QueryProfiler.Execution execution = run(profiler);
+
+    assertAll(
+        () -> assertFalse(execution.isProfiled()),
+        () -> assertEquals(QUERY, execution.getStatement()),
+        () -> assertEquals(1, registry.find(QueryProfiler.LATENCY)
+            .tag(QueryProfiler.TAG_QUERY, "test").timer().count()),
+        () -> assertEquals(2.0, registry.find(QueryProfiler.ROWS)
+            .tag(QueryProfiler.TAG_QUERY, "test").summary().totalAmount()),
+        () -> assertNull(registry.find(QueryProfiler.DB_HITS).summary()));
+  }
+
+  @Test
+  void testProfiled() {
+    QueryProfiler profiler = new QueryProfiler(true, 1.0, 0L, new AnalysisMetrics(registry));
+
+    QueryProfiler.Execution execution = run(profiler);
+
+    assertAll(
+        () -> assertTrue(execution.isProfiled()),
+        () -> assertEquals("PROFILE " + QUERY, execution.getStatement()),
+        () -> assertEquals(2, execution.getRows()),
+        () -> assertEquals(1, registry.find(QueryProfiler.LATENCY)
+            .tag(QueryProfiler.TAG_QUERY, "test").timer().count()),
+        () -> assertTrue(registry.find(QueryProfiler.DB_HITS)
+            .tag(QueryProfiler.TAG_QUERY, "test").summary().totalAmount() > 0));
+  }
+
+  private QueryProfiler.Execution run(QueryProfiler profiler) {
+    try (Driver driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI());
+         Session session = driver.session()) {
+      QueryProfiler.Execution execution = profiler.start("test", QUERY, PARAMETERS);
+      StatementResult result = session.run(execution.getStatement(), PARAMETERS);
+      result.forEachRemaining(item -> execution.countRow());
+      execution.finish(result.consume());
+      return execution;
+    }
+  }
+}
@@ -2,12 +2,17 @@ package illumi.code.ddd.service.refactor.impl;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import illumi.code.ddd.model.AnalysisProgress;
 import illumi.code.ddd.model.DDDStructure;
 import illumi.code.ddd.model.DDDType;
 import illumi.code.ddd.model.artifacts.Artifact;
 import illumi.code.ddd.model.artifacts.Class;
 import illumi.code.ddd.model.artifacts.Package;
+import illumi.code.ddd.service.monitor.AnalysisMetrics;
+import illumi.code.ddd.service.monitor.ProgressReporter;
 
 import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +21,14 @@ import org.junit.jupiter.api.Test;
 class RefactorServiceImplTest {
 
   private RefactorServiceImpl service;
+  private DDDStructure structure;
   private Class root;
 
   @BeforeEach
   void init() {
     service = new RefactorServiceImpl();
 
-    DDDStructure structure = new DDDStructure();
+    structure = new DDDStructure();
     structure.setPath("de.test");
 
     Package module = new Package("test", "de.test");
@@ -43,13 +49,11 @@ class RefactorServiceImplTest {
     ArrayList<Artifact> data = new ArrayList<>();
     data.add(module);
     structure.setStructure(data);
-
-    service.setOldStructure(structure);
   }
 
   @Test
   void testRefactor() {
-    final DDDStructure result = service.refactor();
+    final DDDStructure result = service.refactor(structure);
 
     assertAll(() -> assertEquals(13, result.getPackages().size(), "#Package"),
         () -> assertEquals(8, result.getClasses().size(), "#Class"));
@@ -59,9 +63,34 @@ class RefactorServiceImplTest {
   void testRefactorInvalidDependency() {
     root.addDependencies("de.test.Class");
 
-    final DDDStructure result = service.refactor();
+    final DDDStructure result = service.refactor(structure);
 
     assertAll(() -> assertEquals(13, result.getPackages().size(), "#Package"),
         () -> assertEquals(8, result.getClasses().size(), "#Class"));
   }
+
+  @Test
+  void testRefactorProgress() {
+    ProgressReporter reporter = new ProgressReporter(4, 60);
+
+    final DDDStructure result = new RefactorServiceImpl(AnalysisMetrics.getDefault(), reporter)
+        .refactor(structure);
+    AnalysisProgress progress = reporter.get("de.test");
+
+    assertAll(
+        () -> assertEquals(result.getPackages().size(), progress.getCount("refactor.package")),
+        () -> assertEquals(result.getClasses().size(), progress.getCount("refactor.class")),
+        () -> assertEquals(result.getInterfaces().size(),
+            progress.getCount("refactor.interface")),
+        () -> assertTrue(progress.getTotal() > 0));
+  }
+
+  @Test
+  void testRefactorKeepsOldStructure() {
+    final DDDStructure result = service.refactor(structure);
+
+    assertAll(() -> assertEquals(2, structure.getClasses().size(), "#Class"),
+        () -> assertEquals("de.test.Root", root.getPath()),
+        () -> assertNotSame(root, result.getClass(root.getPath())));
+  }
 }
@@ -0,0 +1,63 @@
+package illumi.code.ddd.service.refactor.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import illumi.code.ddd.model.artifacts.Artifact;
+import illumi.code.ddd.model.artifacts.Class;
+import illumi.code.ddd.model.artifacts.Field;
+import illumi.code.ddd.model.artifacts.Method;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class RenamePlanTest {
+
+  @Test
+  void testRewrite() {
+    RenamePlan plan = new RenamePlan();
+    plan.add("de.test.Person", "test.domain.person.model.Person");
+    plan.add("de.test.PersonRepository", "test.domain.person.model.impl.PersonRepository");
+    plan.add("de.test.Id", "test.domain.person.model.Id");
+    plan.add("de.test.Id", "test.domain.other.model.Id");
+    plan.add("de.test.Unchanged", "de.test.Unchanged");
+
+    String signature = "java.lang.String getName()";
+
+    assertAll(
+        () -> assertEquals(3, plan.size()),
+        () -> assertEquals("test.domain.person.model.Person", plan.rewrite("de.test.Person")),
+        () -> assertEquals("test.domain.person.model.impl.PersonRepository",
+            plan.rewrite("de.test.PersonRepository")),
+        () -> assertEquals("test.domain.person.model.Person find(test.domain.person.model.Id)",
+            plan.rewrite("de.test.Person find(de.test.Id)")),
+        () -> assertEquals("java.util.List<test.domain.person.model.Person>",
+            plan.rewrite("java.util.List<de.test.Person>")),
+        () -> assertEquals("test.domain.person.model.Person$Builder",
+            plan.rewrite("de.test.Person$Builder")),
+        () -> assertEquals("de.test.PersonName", plan.rewrite("de.test.PersonName")),
+        () -> assertEquals("com.de.test.Person", plan.rewrite("com.de.test.Person")),
+        () -> assertSame(signature, plan.rewrite(signature)),
+        () -> assertNull(plan.rewrite(null)));
+  }
+
+  @Test
+  void testApply() {
+    Class artifact = new Class("Person", "de.test.Person");
+    Field field = new Field("private", "id", "de.test.Id");
+    artifact.addField(field);
+    Method method = new Method("public", "getId", "de.test.Id getId()");
+    artifact.addMethod(method);
+
+    RenamePlan plan = new RenamePlan();
+    plan.add("de.test.Id", "test.domain.person.model.Id");
+    plan.apply(Collections.<Artifact>singletonList(artifact));
+
+    assertAll(
+        () -> assertEquals("test.domain.person.model.Id", field.getType()),
+        () -> assertEquals("test.domain.person.model.Id getId()", method.getSignature()));
+  }
+}
@@ -0,0 +1,53 @@
+package illumi.code.ddd.service.session.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import illumi.code.ddd.model.AnalysisSession;
+import illumi.code.ddd.model.DDDStructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionServiceImplTest {
+
+  private SessionServiceImpl service;
+
+  @BeforeEach
+  void init() {
+    service = new SessionServiceImpl(2, 60);
+  }
+
+  @Test
+  void testCreateAndGet() {
+    DDDStructure structure = new DDDStructure();
+    structure.setPath("de.test");
+
+    AnalysisSession session = service.create("de.test", structure);
+
+    assertAll(
+        () -> assertSame(session, service.get(session.getId())),
+        () -> assertEquals("de.test", session.getPath()),
+        () -> assertNotSame(structure, session.getStructure()),
+        () -> assertEquals("de.test", session.getStructure().getRoot()));
+  }
+
+  @Test
+  void testCreateNewId() {
+    AnalysisSession first = service.create("de.test", new DDDStructure());
+    AnalysisSession second = service.create("de.test", new DDDStructure());
+
+    assertNotEquals(first.getId(), second.getId());
+  }
+
+  @Test
+  void testGetUnknown() {
+    assertAll(
+        () -> assertNull(service.get("unknown")),
+        () -> assertNull(service.get(null)));
+  }
+}
@@ -0,0 +1,353 @@
+package illumi.code.ddd.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Values;
+
+/**
+ * Generates a graph in the shape of a jQAssistant scan of a system, which is structured
+ * by domains. Every domain has an application service and aggregates. Every aggregate
+ * consists of an aggregate root with its id, entities, value objects, a repository with
+ * its implementation in the infrastructure and a factory. Additional dependencies between
+ * random classes of the system can be added to control the density of the graph.
+ * The graph is written in batches through the Neo4j-Driver, so it can fill the embedded
+ * Neo4j of the application as well as the one of neo4j-harness.
+ */
+public class GraphGenerator {
+
+  private static final int BATCH_SIZE = 5000;
+
+  private static final String ENTITY_ANNOTATION = "javax.persistence.Entity";
+  private static final String REPOSITORY_ANNOTATION = "org.springframework.stereotype.Repository";
+  private static final String SERVICE_ANNOTATION = "org.springframework.stereotype.Service";
+
+  private String root = "de.generated";
+  private int domains = 1;
+  private int aggregates = 1;
+  private int entities = 1;
+  private int valueObjects = 1;
+  private int dependencies = 0;
+  private long seed = 42L;
+
+  private final List<Map<String, Object>> packages = new ArrayList<>();
+  private final Map<String, List<Map<String, Object>>> types = new HashMap<>();
+  private final Map<String, List<Map<String, Object>>> members = new HashMap<>();
+  private final Map<String, List<Map<String, Object>>> relations = new HashMap<>();
+  private final List<Map<String, Object>> annotations = new ArrayList<>();
+  private final List<String> classes = new ArrayList<>();
+
+  /**
+   * Create a generator for about the given number of types with one aggregate of two
+   * entities and two value objects per domain.
+   *
+   * @param types : approximate number of types
+   * @return generator
+   */
+  public static GraphGenerator forTypes(int types) {
+    GraphGenerator generator = new GraphGenerator()
+        .aggregates(1)
+        .entities(2)
+        .valueObjects(2);
+    return generator.domains(Math.max(1, types / generator.getTypesPerDomain()));
+  }
+
+  public GraphGenerator root(String root) {
+    this.root = root;
+    return this;
+  }
+
+  public GraphGenerator domains(int domains) {
+    this.domains = domains;
+    return this;
+  }
+
+  public GraphGenerator aggregates(int aggregates) {
+    this.aggregates = aggregates;
+    return this;
+  }
+
+  public GraphGenerator entities(int entities) {
+    this.entities = entities;
+    return this;
+  }
+
+  public GraphGenerator valueObjects(int valueObjects) {
+    this.valueObjects = valueObjects;
+    return this;
+  }
+
+  /**
+   * Number of additional dependencies of every class to random classes of the system.
+   *
+   * @param dependencies : dependencies per class
+   * @return generator
+   */
+  public GraphGenerator dependencies(int dependencies) {
+    this.dependencies = dependencies;
+    return this;
+  }
+
+  public GraphGenerator seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  public String getRoot() {
+    return root;
+  }
+
+  /**
+   * Number of classes, interfaces and annotations of a domain.
+   *
+   * @return types per domain
+   */
+  public int getTypesPerDomain() {
+    return 1 + aggregates * (5 + entities + valueObjects);
+  }
+
+  public int getTypes() {
+    return domains * getTypesPerDomain();
+  }
+
+  /**
+   * Write the graph.
+   *
+   * @param driver : Neo4j-Driver of the database to fill
+   * @return number of generated types
+   */
+  public int generate(Driver driver) {
+    clear();
+    createSystem();
+    createDependencies();
+
+    try (Session session = driver.session()) {
+      session.run("CREATE INDEX ON :Package(fqn)").consume();
+      session.run("CREATE INDEX ON :Type(fqn)").consume();
+    }
+
+    write(driver, "UNWIND {rows} AS row "
+        + "CREATE (:Java:Package {fqn: row.fqn, name: row.name})", packages);
+    write(driver, "UNWIND {rows} AS row "
+        + "MATCH (parent:Package {fqn: row.parent}), (child:Package {fqn: row.fqn}) "
+        + "CREATE (parent)-[:CONTAINS]->(child)", withParent(packages));
+    types.forEach((label, rows) -> write(driver, "UNWIND {rows} AS row "
+        + "MATCH (parent:Package {fqn: row.parent}) "
+        + "CREATE (parent)-[:CONTAINS]->(:Java:Type:" + label
+        + " {fqn: row.fqn, name: row.name, visibility: 'public'})", rows));
+    members.forEach((label, rows) -> write(driver, "UNWIND {rows} AS row "
+        + "MATCH (type:Type {fqn: row.type}) "
+        + "CREATE (type)-[:DECLARES]->(:Java:Member:" + label
+        + " {name: row.name, signature: row.signature, visibility: row.visibility})", rows));
+    relations.forEach((relation, rows) -> write(driver, "UNWIND {rows} AS row "
+        + "MATCH (from:Type {fqn: row.from}), (to:Type {fqn: row.to}) "
+        + "CREATE (from)-[:" + relation + "]->(to)", rows));
+    write(driver, "UNWIND {rows} AS row "
+        + "MATCH (type:Type {fqn: row.type}) "
+        + "MERGE (annotationType:Java:Type {fqn: row.annotation}) "
+        + "ON CREATE SET annotationType.name = row.name "
+        + "CREATE (type)-[:ANNOTATED_BY]->(:Java:Annotation)-[:OF_TYPE]->(annotationType)",
+        annotations);
+
+    return getTypes();
+  }
+
+  private void clear() {
+    packages.clear();
+    types.clear();
+    members.clear();
+    relations.clear();
+    annotations.clear();
+    classes.clear();
+  }
+
+  private void createSystem() {
+    addPackage(root, null);
+    addPackage(root + ".application", root);
+    addPackage(root + ".domain", root);
+    addPackage(root + ".infrastructure", root);
+
+    for (int d = 0; d < domains; d++) {
+      String domain = "domain" + d;
+      String path = root + ".domain." + domain;
+      addPackage(path, root + ".domain");
+
+      String service = root + ".application." + capitalize(domain) + "ApplicationService";
+      addType("Class", service, root + ".application");
+      addAnnotation(service, SERVICE_ANNOTATION);
+
+      for (int a = 0; a < aggregates; a++) {
+        createAggregate(path, capitalize(domain) + "Aggregate" + a, service);
+      }
+    }
+  }
+
+  private void createAggregate(String path, String name, String service) {
+    String aggregate = path + "." + name;
+    String id = aggregate + "Id";
+    String repository = aggregate + "Repository";
+    String repositoryImpl = root + ".infrastructure." + name + "RepositoryImpl";
+    String factory = aggregate + "Factory";
+
+    addValueObject(id, path, "java.lang.Long", "id");
+
+    addType("Class", aggregate, path);
+    addAnnotation(aggregate, ENTITY_ANNOTATION);
+    addField(aggregate, "id", id, "private");
+    addGetter(aggregate, "id", id);
+    addMethod(aggregate, "equals", "boolean equals(java.lang.Object)");
+    addMethod(aggregate, "hashCode", "int hashCode()");
+    addRelation("DEPENDS_ON", aggregate, id);
+
+    for (int e = 0; e < entities; e++) {
+      String entity = aggregate + "Entity" + e;
+      String entityId = entity + "Id";
+      addType("Class", entity, path);
+      addAnnotation(entity, ENTITY_ANNOTATION);
+      addField(entity, "id", entityId, "private");
+      addGetter(entity, "id", entityId);
+      addMethod(entity, "equals", "boolean equals(java.lang.Object)");
+      addMethod(entity, "hashCode", "int hashCode()");
+      addField(aggregate, "entity" + e, entity, "private");
+      addGetter(aggregate, "entity" + e, entity);
+      addRelation("DEPENDS_ON", aggregate, entity);
+    }
+
+    for (int v = 0; v < valueObjects; v++) {
+      String valueObject = aggregate + "Value" + v;
+      addValueObject(valueObject, path, "java.lang.String", "value");
+      addField(aggregate, "value" + v, valueObject, "private");
+      addGetter(aggregate, "value" + v, valueObject);
+      addRelation("DEPENDS_ON", aggregate, valueObject);
+    }
+
+    addType("Interface", repository, path);
+    addMethod(repository, "findById", aggregate + " findById(" + id + ")");
+    addMethod(repository, "save", "void save(" + aggregate + ")");
+    addMethod(repository, "delete", "void delete(" + aggregate + ")");
+
+    addType("Class", repositoryImpl, root + ".infrastructure");
+    addAnnotation(repositoryImpl, REPOSITORY_ANNOTATION);
+    addRelation("IMPLEMENTS", repositoryImpl, repository);
+    addMethod(repositoryImpl, "findById", aggregate + " findById(" + id + ")");
+    addMethod(repositoryImpl, "save", "void save(" + aggregate + ")");
+    addMethod(repositoryImpl, "delete", "void delete(" + aggregate + ")");
+    addRelation("DEPENDS_ON", repositoryImpl, aggregate);
+
+    addType("Class", factory, path);
+    addMethod(factory, "create", aggregate + " create()");
+    addRelation("DEPENDS_ON", factory, aggregate);
+
+    addField(service, Character.toLowerCase(name.charAt(0)) + name.substring(1) + "Repository",
+        repository, "private");
+    addRelation("DEPENDS_ON", service, repository);
+    addRelation("DEPENDS_ON", service, factory);
+  }
+
+  private void addValueObject(String fqn, String parent, String type, String field) {
+    addType("Class", fqn, parent);
+    addField(fqn, field, type, "private");
+    addGetter(fqn, field, type);
+  }
+
+  private void createDependencies() {
+    if (dependencies <= 0 || classes.size() < 2) {
+      return;
+    }
+    Random random = new Random(seed);
+    for (String from : classes) {
+      for (int i = 0; i < dependencies; i++) {
+        String to = classes.get(random.nextInt(classes.size()));
+        if (!to.equals(from)) {
+          addRelation("DEPENDS_ON", from, to);
+        }
+      }
+    }
+  }
+
+  private void addPackage(String fqn, String parent) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("fqn", fqn);
+    row.put("name", fqn.substring(fqn.lastIndexOf('.') + 1));
+    row.put("parent", parent);
+    packages.add(row);
+  }
+
+  private void addType(String label, String fqn, String parent) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("fqn", fqn);
+    row.put("name", fqn.substring(fqn.lastIndexOf('.') + 1));
+    row.put("parent", parent);
+    types.computeIfAbsent(label, key -> new ArrayList<>()).add(row);
+    if ("Class".equals(label)) {
+      classes.add(fqn);
+    }
+  }
+
+  private void addField(String type, String name, String fieldType, String visibility) {
+    addMember("Field", type, name, fieldType + " " + name, visibility);
+  }
+
+  private void addMethod(String type, String name, String signature) {
+    addMember("Method", type, name, signature, "public");
+  }
+
+  private void addGetter(String type, String field, String fieldType) {
+    String name = "get" + capitalize(field);
+    addMethod(type, name, fieldType + " " + name + "()");
+  }
+
+  private void addMember(String label, String type, String name, String signature,
+                         String visibility) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("type", type);
+    row.put("name", name);
+    row.put("signature", signature);
+    row.put("visibility", visibility);
+    members.computeIfAbsent(label, key -> new ArrayList<>()).add(row);
+  }
+
+  private void addRelation(String relation, String from, String to) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("from", from);
+    row.put("to", to);
+    relations.computeIfAbsent(relation, key -> new ArrayList<>()).add(row);
+  }
+
+  private void addAnnotation(String type, String annotation) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("type", type);
+    row.put("annotation", annotation);
+    row.put("name", annotation.substring(annotation.lastIndexOf('.') + 1));
+    annotations.add(row);
+  }
+
+  private static List<Map<String, Object>> withParent(List<Map<String, Object>> rows) {
+    List<Map<String, Object>> result = new ArrayList<>();
+    for (Map<String, Object> row : rows) {
+      if (row.get("parent") != null) {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  private static void write(Driver driver, String query, List<Map<String, Object>> rows) {
+    try (Session session = driver.session()) {
+      for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+        List<Map<String, Object>> batch = rows.subList(from,
+            Math.min(rows.size(), from + BATCH_SIZE));
+        session.run(query, Values.parameters("rows", batch)).consume();
+      }
+    }
+  }
+
+  private static String capitalize(String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+}
@@ -0,0 +1,83 @@
+package illumi.code.ddd.support;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import illumi.code.ddd.model.DDDStructure;
+import illumi.code.ddd.service.analyse.impl.AnalyseServiceImpl;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.harness.ServerControls;
+import org.neo4j.harness.TestServerBuilders;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GraphGeneratorTest {
+
+  private ServerControls embeddedDatabaseServer;
+  private Driver driver;
+  private GraphGenerator generator;
+
+  @BeforeAll
+  void initializeNeo4j() {
+    this.embeddedDatabaseServer = TestServerBuilders.newInProcessBuilder().newServer();
+    this.driver = GraphDatabase.driver(embeddedDatabaseServer.boltURI());
+    this.generator = new GraphGenerator()
+        .root("de.generated")
+        .domains(3)
+        .aggregates(2)
+        .entities(1)
+        .valueObjects(2)
+        .dependencies(1);
+    generator.generate(driver);
+  }
+
+  @AfterAll
+  void closeNeo4j() {
+    driver.close();
+    embeddedDatabaseServer.close();
+  }
+
+  @Test
+  void testGenerateTypes() {
+    try (Session session = driver.session()) {
+      long types = session.run("MATCH (root:Package)-[:CONTAINS*]->(type:Type) "
+              + "WHERE root.fqn = {path} RETURN count(type) as count",
+          Values.parameters("path", "de.generated")).single().get("count").asLong();
+      long repositories = session.run("MATCH (:Class)-[:IMPLEMENTS]->(:Interface) "
+          + "RETURN count(*) as count").single().get("count").asLong();
+      long annotated = session.run("MATCH (:Class)-[:ANNOTATED_BY]->(:Annotation)"
+          + "-[:OF_TYPE]->(:Type {fqn: 'javax.persistence.Entity'}) "
+          + "RETURN count(*) as count").single().get("count").asLong();
+
+      assertAll("Should generate the types of all domains",
+          () -> assertEquals(3 * 17, generator.getTypes()),
+          () -> assertEquals(generator.getTypes(), types),
+          () -> assertEquals(6, repositories),
+          () -> assertEquals(12, annotated));
+    }
+  }
+
+  @Test
+  void testAnalyseGeneratedGraph() {
+    DDDStructure structure = new AnalyseServiceImpl(driver).analyzeStructure("de.generated");
+
+    assertAll("Should analyse all generated types",
+        () -> assertEquals(6, structure.getInterfaces().size()),
+        () -> assertEquals(generator.getTypes() - 6, structure.getClasses().size()),
+        () -> assertEquals(3 + 3, structure.getPackages().size()));
+  }
+
+  @Test
+  void testForTypes() {
+    GraphGenerator result = GraphGenerator.forTypes(1000);
+
+    assertEquals(1000, result.getTypes());
+  }
+}